@@ -0,0 +1,79 @@
+package com.aarogya.api_gateway.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Public/private decision with the segment trie against the {@code startsWith} scan over a set that
+ * {@code PublicEndpointConfig} used before. The private path has to rule out every public prefix; the public
+ * path hits the last rule added.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublicEndpointMatcherBenchmark {
+
+    private static final String PRIVATE_PATH = "/appointment/core/patient/682c9dadc231b526e2eecca7";
+
+    @Param({"10", "100", "1000"})
+    private int ruleCount;
+
+    private PublicEndpointMatcher matcher;
+    private Set<String> prefixes;
+    private String publicPath;
+
+    @Setup
+    public void setUp() {
+        List<PublicEndpointProperties.Rule> rules = new ArrayList<>();
+        prefixes = new LinkedHashSet<>();
+        for (int i = 0; i < ruleCount; i++) {
+            // Zero-padded so that no rule is a plain string prefix of another
+            String path = "/service" + (i % 10) + "/resource" + String.format("%04d", i);
+            PublicEndpointProperties.Rule rule = new PublicEndpointProperties.Rule();
+            rule.setPath(path + "/**");
+            rule.setMethods(List.of("GET"));
+            rules.add(rule);
+            prefixes.add(path);
+        }
+        matcher = new PublicEndpointMatcher(rules);
+        publicPath = "/service" + ((ruleCount - 1) % 10) + "/resource" + String.format("%04d", ruleCount - 1) + "/42";
+    }
+
+    @Benchmark
+    public boolean triePrivatePath() {
+        return matcher.matches("GET", PRIVATE_PATH);
+    }
+
+    @Benchmark
+    public boolean triePublicPath() {
+        return matcher.matches("GET", publicPath);
+    }
+
+    @Benchmark
+    public boolean prefixScanPrivatePath() {
+        return prefixes.stream().anyMatch(PRIVATE_PATH::startsWith);
+    }
+
+    @Benchmark
+    public boolean prefixScanPublicPath() {
+        return prefixes.stream().anyMatch(publicPath::startsWith);
+    }
+}
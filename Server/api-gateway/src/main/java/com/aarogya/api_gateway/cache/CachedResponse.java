@@ -0,0 +1,12 @@
+package com.aarogya.api_gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * A buffered upstream response. {@code expiresAtNanos} is on the {@link System#nanoTime()} clock and is
+ * derived from the backend's {@code Cache-Control: max-age}, capped at the route TTL.
+ */
+public record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, String etag,
+                             long expiresAtNanos) {
+}
@@ -0,0 +1,20 @@
+package com.aarogya.api_gateway.cache;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Asks {@link ResponseCacheStore} to drop every cached response of a route.
+ */
+public class ResponseCacheEvictEvent extends ApplicationEvent {
+
+    private final String routeId;
+
+    public ResponseCacheEvictEvent(Object source, String routeId) {
+        super(source);
+        this.routeId = routeId;
+    }
+
+    public String getRouteId() {
+        return routeId;
+    }
+}
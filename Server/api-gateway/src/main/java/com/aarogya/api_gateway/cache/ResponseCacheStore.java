@@ -0,0 +1,82 @@
+package com.aarogya.api_gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one bounded Caffeine cache per route, so a write through a route can drop just that route's
+ * entries. Each entry expires at the time carried by the {@link CachedResponse} itself.
+ */
+@Component
+public class ResponseCacheStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCacheStore.class);
+
+    private final Map<String, Cache<String, CachedResponse>> caches = new ConcurrentHashMap<>();
+    private final long maximumSize;
+    private final MeterRegistry meterRegistry;
+
+    public ResponseCacheStore(@Value("${gateway.response-cache.maximum-size:1000}") long maximumSize,
+                              MeterRegistry meterRegistry) {
+        this.maximumSize = maximumSize;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public CachedResponse get(String routeId, String key) {
+        Cache<String, CachedResponse> cache = caches.get(routeId);
+        return cache != null ? cache.getIfPresent(key) : null;
+    }
+
+    public void put(String routeId, String key, CachedResponse response) {
+        caches.computeIfAbsent(routeId, this::createCache).put(key, response);
+    }
+
+    @EventListener
+    public void onEvict(ResponseCacheEvictEvent event) {
+        Cache<String, CachedResponse> cache = caches.get(event.getRouteId());
+        if (cache != null) {
+            cache.invalidateAll();
+            log.debug("Evicted cached responses for route {}", event.getRouteId());
+        }
+    }
+
+    private Cache<String, CachedResponse> createCache(String routeId) {
+        Cache<String, CachedResponse> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ResponseExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gatewayResponses", Tags.of("route", routeId));
+        return cache;
+    }
+
+    private static class ResponseExpiry implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            return Math.max(0, value.expiresAtNanos() - System.nanoTime());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
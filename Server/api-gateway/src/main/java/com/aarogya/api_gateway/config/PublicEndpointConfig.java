@@ -1,17 +1,44 @@
 package com.aarogya.api_gateway.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
-import java.util.Set;
-
+/**
+ * Decides whether a request may skip authentication. The rules come from {@code gateway.public-endpoints}
+ * and are compiled into a {@link PublicEndpointMatcher}. {@code POST /actuator/refresh} rebinds the
+ * properties and rebuilds the matcher, which is swapped in without blocking requests that are already
+ * matching against the old one.
+ */
 @Component
+@EnableConfigurationProperties(PublicEndpointProperties.class)
 public class PublicEndpointConfig {
 
-    private final Set<String> publicEndpoints = Set.of(
+    private static final Logger log = LoggerFactory.getLogger(PublicEndpointConfig.class);
+
+    private final PublicEndpointProperties properties;
+    private volatile PublicEndpointMatcher matcher;
 
-    );
+    public PublicEndpointConfig(PublicEndpointProperties properties) {
+        this.properties = properties;
+        this.matcher = new PublicEndpointMatcher(properties.getRules());
+    }
+
+    public boolean isPublicEndpoint(String method, String path) {
+        return matcher.matches(method, path);
+    }
 
-    public boolean isPublicEndpoint(String path) {
-        return publicEndpoints.stream().anyMatch(path::startsWith);
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public void reload() {
+        try {
+            this.matcher = new PublicEndpointMatcher(properties.getRules());
+            log.info("Reloaded {} public endpoint rules", properties.getRules().size());
+        } catch (IllegalStateException e) {
+            // A broken rule must not take the gateway down; the previous rules stay in force
+            log.error("Keeping the previous public endpoint rules: {}", e.getMessage());
+        }
     }
 }
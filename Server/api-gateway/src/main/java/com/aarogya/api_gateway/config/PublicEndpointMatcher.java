@@ -0,0 +1,88 @@
+package com.aarogya.api_gateway.config;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable trie of path segments built from the public endpoint rules. A lookup walks at most one node
+ * per segment of the request path, so its cost depends on the path depth and not on the number of rules.
+ * Rules match on whole segments: {@code /article} covers {@code /article/123} but not {@code /articles}.
+ */
+final class PublicEndpointMatcher {
+
+    private static final String ANY_METHOD = "*";
+
+    private final Node root = new Node();
+
+    PublicEndpointMatcher(List<PublicEndpointProperties.Rule> rules) {
+        for (PublicEndpointProperties.Rule rule : rules) {
+            if (rule.getPath() == null || rule.getPath().isBlank()) {
+                throw new IllegalStateException("Public endpoint rule is missing a path");
+            }
+            Node node = root;
+            for (String segment : segments(stripWildcard(rule.getPath()))) {
+                node = node.children.computeIfAbsent(segment, ignored -> new Node());
+            }
+            if (rule.getMethods() == null || rule.getMethods().isEmpty()) {
+                node.methods.add(ANY_METHOD);
+            } else {
+                for (String method : rule.getMethods()) {
+                    node.methods.add(method.toUpperCase(Locale.ROOT));
+                }
+            }
+        }
+    }
+
+    boolean matches(String method, String path) {
+        Node node = root;
+        if (node.allows(method)) {
+            return true;
+        }
+        int start = 0;
+        int length = path.length();
+        while (start < length) {
+            if (path.charAt(start) == '/') {
+                start++;
+                continue;
+            }
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.children.get(path.substring(start, end));
+            if (node == null) {
+                return false;
+            }
+            if (node.allows(method)) {
+                return true;
+            }
+            start = end;
+        }
+        return false;
+    }
+
+    private static String stripWildcard(String path) {
+        return path.endsWith("/**") ? path.substring(0, path.length() - 3) : path;
+    }
+
+    private static String[] segments(String path) {
+        return Arrays.stream(path.split("/"))
+                .filter(segment -> !segment.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+        private final Set<String> methods = new HashSet<>();
+
+        private boolean allows(String method) {
+            return !methods.isEmpty() && (methods.contains(ANY_METHOD) || methods.contains(method));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.aarogya.api_gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "gateway.public-endpoints")
+public class PublicEndpointProperties {
+
+    private List<Rule> rules = new ArrayList<>();
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * A path prefix that skips authentication. An empty method list means every method is public.
+     */
+    public static class Rule {
+
+        private String path;
+        private List<String> methods = new ArrayList<>();
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.aarogya.api_gateway.config;
+
+import com.aarogya.api_gateway.filters.AuthenticationFilter;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+@Configuration
+public class RateLimitConfig {
+
+    /**
+     * Limits authenticated traffic per user, using the id {@link AuthenticationFilter} stores on the exchange,
+     * and falls back to the client address on routes without authentication such as login and signup.
+     */
+    @Bean
+    public KeyResolver userKeyResolver() {
+        return exchange -> {
+            String userId = exchange.getAttribute(AuthenticationFilter.USER_ID_ATTR);
+            if (userId != null && !userId.isBlank()) {
+                return Mono.just("user:" + userId);
+            }
+            InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+            return Mono.just("ip:" + (remoteAddress != null ? remoteAddress.getAddress().getHostAddress() : "unknown"));
+        };
+    }
+}
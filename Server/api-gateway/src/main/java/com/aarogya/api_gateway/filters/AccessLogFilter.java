@@ -0,0 +1,81 @@
+package com.aarogya.api_gateway.filters;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes one key=value line per request to the {@code ACCESS_LOG} logger. Only a sample of successful,
+ * fast requests is logged; 5xx responses, cancelled requests and requests slower than the threshold are
+ * always logged. The logger is bound to an async appender in {@code logback-spring.xml}, so the event
+ * loop never waits on appender I/O.
+ */
+@Component
+public class AccessLogFilter implements GlobalFilter, Ordered {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("ACCESS_LOG");
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public AccessLogFilter(@Value("${gateway.access-log.enabled:true}") boolean enabled,
+                           @Value("${gateway.access-log.sample-rate:0.01}") double sampleRate,
+                           @Value("${gateway.access-log.slow-threshold:1s}") Duration slowThreshold) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!enabled || !accessLog.isInfoEnabled()) {
+            return chain.filter(exchange);
+        }
+        long startedAt = System.nanoTime();
+        return chain.filter(exchange).doFinally(signal -> {
+            long elapsed = System.nanoTime() - startedAt;
+            HttpStatusCode status = exchange.getResponse().getStatusCode();
+            boolean failed = signal != SignalType.ON_COMPLETE || status == null || status.is5xxServerError();
+            boolean slow = elapsed >= slowThresholdNanos;
+            if (failed || slow || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                write(exchange, status, signal, elapsed, slow);
+            }
+        });
+    }
+
+    private void write(ServerWebExchange exchange, HttpStatusCode status, SignalType signal, long elapsedNanos,
+                       boolean slow) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        accessLog.info("method={} path={} route={} status={} signal={} durationMs={} slow={} user={}",
+                request.getMethod().name(),
+                request.getPath().value(),
+                route != null ? route.getId() : "-",
+                status != null ? status.value() : "-",
+                signal,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                slow,
+                exchange.getAttributeOrDefault(AuthenticationFilter.USER_ID_ATTR, "-"));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
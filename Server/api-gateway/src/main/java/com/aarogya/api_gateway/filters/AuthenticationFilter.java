@@ -20,6 +20,7 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
 
 
     private static final Logger log = LoggerFactory.getLogger(AuthenticationFilter.class);
+    public static final String USER_ID_ATTR = AuthenticationFilter.class.getName() + ".userId";
     private final JwtService jwtService;
     private final PublicEndpointConfig publicEndpointConfig;
 
@@ -33,16 +34,12 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
     @Override
     public GatewayFilter apply(Config config) {
         return (exchange, chain) -> {
-            log.info("Incoming request: {}", exchange
-                    .getRequest());
-
             final String path = exchange
                     .getRequest()
                     .getURI()
                     .getPath();
-            log.info("Request path: {}", path);
-            if (publicEndpointConfig.isPublicEndpoint(path)) {
-                log.info("Skipping authentication for public endpoint: {}", path);
+            if (publicEndpointConfig.isPublicEndpoint(exchange.getRequest().getMethod().name(), path)) {
+                log.debug("Skipping authentication for public endpoint: {}", path);
                 return chain.filter(exchange);
             }
 
@@ -59,6 +56,7 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
 
             try {
                 Map<String, String> userDetails = jwtService.getUserDetails(token);
+                exchange.getAttributes().put(USER_ID_ATTR, userDetails.get("id"));
 
                 ServerWebExchange mutatedExchange = exchange.mutate()
                         .request(req -> req
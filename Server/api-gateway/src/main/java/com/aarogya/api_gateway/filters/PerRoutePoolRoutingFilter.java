@@ -0,0 +1,157 @@
+package com.aarogya.api_gateway.filters;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.springframework.cloud.gateway.support.RouteMetadataUtils.CONNECT_TIMEOUT_ATTR;
+
+/**
+ * Replaces the default routing filter so that a route can get its own upstream connection pool. Routes
+ * with a {@code pool} block in their metadata are sent through a dedicated {@link ConnectionProvider},
+ * which keeps a slow backend from holding connections and pending-acquire slots that other routes need.
+ * Routes without one share the global pool from {@code spring.cloud.gateway.httpclient}.
+ * <p>
+ * Route clients are built by the same {@link HttpClientFactory} steps as the gateway's shared client, so
+ * SSL, proxy, connect timeout and any {@link HttpClientCustomizer} beans still apply; only the
+ * {@link ConnectionProvider} differs.
+ * <p>
+ * Supported metadata: {@code pool.max-connections}, {@code pool.pending-acquire-max-count},
+ * {@code pool.pending-acquire-timeout} and {@code pool.max-idle-time} (milliseconds), {@code http2}
+ * (cleartext HTTP/2 with HTTP/1.1 fallback), plus the built-in {@code connect-timeout} and
+ * {@code response-timeout}.
+ */
+@Component
+public class PerRoutePoolRoutingFilter extends NettyRoutingFilter implements DisposableBean {
+
+    private static final String POOL_METADATA = "pool";
+    private static final String HTTP2_METADATA = "http2";
+
+    private final HttpClientProperties properties;
+    private final ServerProperties serverProperties;
+    private final HttpClientSslConfigurer sslConfigurer;
+    private final List<HttpClientCustomizer> customizers;
+    private final Map<String, RouteClient> routeClients = new ConcurrentHashMap<>();
+
+    public PerRoutePoolRoutingFilter(HttpClient httpClient,
+                                     ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+                                     HttpClientProperties properties,
+                                     ServerProperties serverProperties,
+                                     HttpClientSslConfigurer sslConfigurer,
+                                     ObjectProvider<HttpClientCustomizer> customizers) {
+        super(httpClient, headersFilters, properties);
+        this.properties = properties;
+        this.serverProperties = serverProperties;
+        this.sslConfigurer = sslConfigurer;
+        this.customizers = customizers.orderedStream().toList();
+    }
+
+    @Override
+    protected HttpClient getHttpClient(Route route, ServerWebExchange exchange) {
+        Object pool = route.getMetadata().get(POOL_METADATA);
+        if (!(pool instanceof Map<?, ?> poolMetadata)) {
+            return super.getHttpClient(route, exchange);
+        }
+        return routeClients.computeIfAbsent(route.getId(), id -> createClient(route, poolMetadata)).httpClient();
+    }
+
+    private RouteClient createClient(Route route, Map<?, ?> pool) {
+        HttpClientProperties.Pool defaults = properties.getPool();
+        ConnectionProvider.Builder builder = ConnectionProvider.builder("gateway-" + route.getId())
+                .maxConnections(intValue(pool.get("max-connections"), defaults.getMaxConnections()))
+                .pendingAcquireMaxCount(intValue(pool.get("pending-acquire-max-count"), -1))
+                .pendingAcquireTimeout(Duration.ofMillis(longValue(pool.get("pending-acquire-timeout"),
+                        defaults.getAcquireTimeout())))
+                .metrics(true);
+        Duration maxIdleTime = durationValue(pool.get("max-idle-time"), defaults.getMaxIdleTime());
+        if (maxIdleTime != null) {
+            builder.maxIdleTime(maxIdleTime);
+        }
+        ConnectionProvider provider = builder.build();
+
+        HttpClient httpClient = new RouteHttpClientFactory(properties, serverProperties, sslConfigurer, customizers,
+                provider).createInstance()
+                .compress(properties.isCompression())
+                .wiretap(properties.isWiretap());
+
+        Object connectTimeout = route.getMetadata().get(CONNECT_TIMEOUT_ATTR);
+        Integer defaultConnectTimeout = properties.getConnectTimeout();
+        if (connectTimeout != null || defaultConnectTimeout != null) {
+            httpClient = httpClient.option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                    intValue(connectTimeout, defaultConnectTimeout != null ? defaultConnectTimeout : 0));
+        }
+        if (Boolean.parseBoolean(String.valueOf(route.getMetadata().get(HTTP2_METADATA)))) {
+            httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+        return new RouteClient(httpClient, provider);
+    }
+
+    private static int intValue(Object value, int defaultValue) {
+        return value != null ? Integer.parseInt(value.toString()) : defaultValue;
+    }
+
+    private static long longValue(Object value, Long defaultValue) {
+        if (value != null) {
+            return Long.parseLong(value.toString());
+        }
+        return defaultValue != null ? defaultValue : 45_000L;
+    }
+
+    private static Duration durationValue(Object value, Duration defaultValue) {
+        if (value != null) {
+            return Duration.ofMillis(Long.parseLong(value.toString()));
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public void destroy() {
+        routeClients.values().forEach(client -> client.provider().dispose());
+    }
+
+    /**
+     * Runs the gateway's own client setup over a route's {@link ConnectionProvider} instead of the shared one.
+     */
+    private static final class RouteHttpClientFactory extends HttpClientFactory {
+
+        private final ConnectionProvider provider;
+
+        private RouteHttpClientFactory(HttpClientProperties properties, ServerProperties serverProperties,
+                                       HttpClientSslConfigurer sslConfigurer, List<HttpClientCustomizer> customizers,
+                                       ConnectionProvider provider) {
+            super(properties, serverProperties, sslConfigurer, customizers);
+            this.provider = provider;
+        }
+
+        @Override
+        protected ConnectionProvider buildConnectionProvider(HttpClientProperties properties) {
+            return provider;
+        }
+
+        @Override
+        protected HttpClient createInstance() {
+            return super.createInstance();
+        }
+    }
+
+    private record RouteClient(HttpClient httpClient, ConnectionProvider provider) {
+    }
+}
@@ -0,0 +1,273 @@
+package com.aarogya.api_gateway.filters;
+
+import com.aarogya.api_gateway.cache.CachedResponse;
+import com.aarogya.api_gateway.cache.ResponseCacheEvictEvent;
+import com.aarogya.api_gateway.cache.ResponseCacheStore;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Serves repeated GETs on read-heavy routes from memory. Entries are keyed by role, path and query, so the
+ * filter has to sit after {@link AuthenticationFilter} in the route's filter list. Upstream
+ * {@code Cache-Control} decides whether and for how long a response is kept, {@code If-None-Match} is
+ * answered with 304 on a hit, and any successful write through the same route drops the route's entries.
+ */
+@Component
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private final ResponseCacheStore responseCacheStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration defaultTtl;
+    private final int maxBodyBytes;
+
+    public ResponseCacheFilter(ResponseCacheStore responseCacheStore,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${gateway.response-cache.default-ttl:60s}") Duration defaultTtl,
+                               @Value("${gateway.response-cache.max-body-size:262144}") int maxBodyBytes) {
+        super(Config.class);
+        this.responseCacheStore = responseCacheStore;
+        this.eventPublisher = eventPublisher;
+        this.defaultTtl = defaultTtl;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        List<PathPattern> patterns = config.getPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        Duration ttl = config.getTtl() != null ? config.getTtl() : defaultTtl;
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : request.getPath().value();
+            HttpMethod method = request.getMethod();
+
+            if (method == HttpMethod.POST || method == HttpMethod.PUT
+                    || method == HttpMethod.PATCH || method == HttpMethod.DELETE) {
+                return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    if (status != null && status.is2xxSuccessful()) {
+                        eventPublisher.publishEvent(new ResponseCacheEvictEvent(this, routeId));
+                    }
+                }));
+            }
+
+            String requestCacheControl = request.getHeaders().getCacheControl();
+            if (method != HttpMethod.GET || !matches(patterns, request)
+                    || hasDirective(requestCacheControl, "no-store")) {
+                return chain.filter(exchange);
+            }
+
+            String key = cacheKey(request);
+            if (!hasDirective(requestCacheControl, "no-cache")) {
+                CachedResponse cached = responseCacheStore.get(routeId, key);
+                if (cached != null) {
+                    return writeCached(exchange.getResponse(), request, cached);
+                }
+            }
+
+            ServerHttpResponse response = exchange.getResponse();
+            response.getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+            return chain.filter(exchange.mutate()
+                    .response(new CachingResponseDecorator(response, routeId, key, ttl))
+                    .build());
+        };
+    }
+
+    private static boolean matches(List<PathPattern> patterns, ServerHttpRequest request) {
+        if (patterns.isEmpty()) {
+            return true;
+        }
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String cacheKey(ServerHttpRequest request) {
+        String role = request.getHeaders().getFirst("X-User-Role");
+        String query = request.getURI().getRawQuery();
+        return (role != null ? role : "ANONYMOUS") + '|' + request.getPath().value()
+                + (query != null ? '?' + query : "");
+    }
+
+    private Mono<Void> writeCached(ServerHttpResponse response, ServerHttpRequest request, CachedResponse cached) {
+        response.getHeaders().putAll(cached.headers());
+        response.getHeaders().set(CACHE_STATUS_HEADER, "HIT");
+
+        if (cached.etag() != null && etagMatches(request.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(cached.status());
+        response.getHeaders().setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String expected = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || stripWeak(value).equals(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static boolean hasDirective(String cacheControl, String directive) {
+        return cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains(directive);
+    }
+
+    /**
+     * Returns how long the upstream allows the response to be cached, capped at the route TTL, or
+     * {@code null} if it must not be cached at all.
+     */
+    private static Duration allowedTtl(HttpHeaders headers, Duration ttl) {
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return null;
+        }
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) {
+            return ttl;
+        }
+        Duration allowed = ttl;
+        for (String token : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+            String directive = token.trim();
+            if (directive.equals("no-store") || directive.equals("no-cache") || directive.equals("private")) {
+                return null;
+            }
+            if (directive.startsWith("max-age=") || directive.startsWith("s-maxage=")) {
+                try {
+                    Duration maxAge = Duration.ofSeconds(Long.parseLong(directive.substring(directive.indexOf('=') + 1)));
+                    if (maxAge.compareTo(allowed) < 0) {
+                        allowed = maxAge;
+                    }
+                } catch (NumberFormatException ignored) {
+                    return null;
+                }
+            }
+        }
+        return allowed.isZero() || allowed.isNegative() ? null : allowed;
+    }
+
+    private static HttpHeaders storableHeaders(HttpHeaders headers) {
+        HttpHeaders stored = new HttpHeaders();
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            String name = header.getKey();
+            if (name.equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH)
+                    || name.equalsIgnoreCase(HttpHeaders.TRANSFER_ENCODING)
+                    || name.equalsIgnoreCase(HttpHeaders.VARY)
+                    || name.equalsIgnoreCase(CACHE_STATUS_HEADER)
+                    || name.regionMatches(true, 0, "Access-Control-", 0, 15)) {
+                continue;
+            }
+            stored.put(name, new ArrayList<>(header.getValue()));
+        }
+        return HttpHeaders.readOnlyHttpHeaders(stored);
+    }
+
+    private class CachingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final String routeId;
+        private final String key;
+        private final Duration ttl;
+
+        CachingResponseDecorator(ServerHttpResponse delegate, String routeId, String key, Duration ttl) {
+            super(delegate);
+            this.routeId = routeId;
+            this.key = key;
+            this.ttl = ttl;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+            Duration allowed = allowedTtl(getHeaders(), ttl);
+            if (status == null || status.value() != HttpStatus.OK.value() || allowed == null) {
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(body).flatMap(joined -> {
+                byte[] bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+
+                if (bytes.length <= maxBodyBytes) {
+                    String etag = getHeaders().getETag();
+                    if (etag == null) {
+                        etag = "W/\"" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+                        getHeaders().setETag(etag);
+                    }
+                    long expiresAtNanos = System.nanoTime() + allowed.toNanos();
+                    responseCacheStore.put(routeId, key,
+                            new CachedResponse(status, storableHeaders(getHeaders()), bytes, etag, expiresAtNanos));
+                }
+                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+    }
+
+    public static class Config {
+
+        private List<String> paths = new ArrayList<>();
+        private Duration ttl;
+
+        public List<String> getPaths() {
+            return paths;
+        }
+
+        public void setPaths(List<String> paths) {
+            this.paths = paths;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+}
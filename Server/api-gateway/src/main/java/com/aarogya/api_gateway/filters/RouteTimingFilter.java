@@ -0,0 +1,106 @@
+package com.aarogya.api_gateway.filters;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records per-route latency histograms for the whole exchange ({@code gateway.route.latency}) and for the
+ * upstream hop alone ({@code gateway.upstream.latency}), tagged by route, status class and the backend
+ * instance the load balancer picked. For a sample of requests the same split is returned to the client
+ * as a {@code Server-Timing} header.
+ */
+@Component
+public class RouteTimingFilter implements GlobalFilter, Ordered {
+
+    private final MeterRegistry meterRegistry;
+    private final double serverTimingSampleRate;
+
+    public RouteTimingFilter(MeterRegistry meterRegistry,
+                             @Value("${gateway.timing.server-timing-sample-rate:0.01}") double serverTimingSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.serverTimingSampleRate = serverTimingSampleRate;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long startedAt = System.nanoTime();
+
+        if (ThreadLocalRandom.current().nextDouble() < serverTimingSampleRate) {
+            exchange.getResponse().beforeCommit(() -> {
+                long totalNanos = System.nanoTime() - startedAt;
+                Long upstreamNanos = exchange.getAttribute(UpstreamTimingFilter.UPSTREAM_NANOS_ATTR);
+                StringBuilder header = new StringBuilder();
+                if (upstreamNanos != null) {
+                    header.append("upstream;dur=").append(millis(upstreamNanos)).append(", ");
+                }
+                header.append("gateway;dur=").append(millis(totalNanos));
+                exchange.getResponse().getHeaders().set("Server-Timing", header.toString());
+                return Mono.empty();
+            });
+        }
+
+        return chain.filter(exchange).doFinally(signal -> record(exchange, System.nanoTime() - startedAt));
+    }
+
+    private void record(ServerWebExchange exchange, long totalNanos) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "none";
+        String statusClass = statusClass(exchange.getResponse().getStatusCode());
+        String instance = instance(exchange);
+
+        timer("gateway.route.latency", routeId, statusClass, instance).record(totalNanos, TimeUnit.NANOSECONDS);
+
+        Long upstreamNanos = exchange.getAttribute(UpstreamTimingFilter.UPSTREAM_NANOS_ATTR);
+        if (upstreamNanos != null) {
+            timer("gateway.upstream.latency", routeId, statusClass, instance).record(upstreamNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String name, String routeId, String statusClass, String instance) {
+        return Timer.builder(name)
+                .tag("route", routeId)
+                .tag("status", statusClass)
+                .tag("instance", instance)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
+    private static String statusClass(HttpStatusCode status) {
+        return status != null ? (status.value() / 100) + "xx" : "none";
+    }
+
+    private static String instance(ServerWebExchange exchange) {
+        URI requestUrl = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        if (requestUrl == null || requestUrl.getHost() == null) {
+            return "none";
+        }
+        return (requestUrl.getHost() + ':' + requestUrl.getPort()).toLowerCase(Locale.ROOT);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+}
@@ -0,0 +1,38 @@
+package com.aarogya.api_gateway.filters;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Runs just before {@link NettyRoutingFilter} and records how long the upstream call takes, from
+ * dispatch to the response headers arriving. {@link RouteTimingFilter} reads the result.
+ */
+@Component
+public class UpstreamTimingFilter implements GlobalFilter, Ordered {
+
+    static final String UPSTREAM_NANOS_ATTR = UpstreamTimingFilter.class.getName() + ".upstreamNanos";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long startedAt = System.nanoTime();
+        // Not doFinally: that runs after completion has reached the write filter, which commits the response
+        // and so fires RouteTimingFilter's beforeCommit before the attribute would be set
+        return chain.filter(exchange)
+                .doOnTerminate(() -> recordUpstream(exchange, startedAt))
+                .doOnCancel(() -> recordUpstream(exchange, startedAt));
+    }
+
+    private static void recordUpstream(ServerWebExchange exchange, long startedAt) {
+        exchange.getAttributes().putIfAbsent(UPSTREAM_NANOS_ATTR, System.nanoTime() - startedAt);
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyRoutingFilter.ORDER - 1;
+    }
+}
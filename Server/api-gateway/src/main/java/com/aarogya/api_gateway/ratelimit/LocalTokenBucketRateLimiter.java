@@ -0,0 +1,117 @@
+package com.aarogya.api_gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory {@link org.springframework.cloud.gateway.filter.ratelimit.RateLimiter} for the built-in
+ * {@code RequestRateLimiter} filter. Buckets are kept per route and key and dropped after they have been
+ * idle for a while. Limits are per gateway instance; for a shared limit across instances swap in the
+ * Redis-backed limiter through the filter's {@code rate-limiter} argument.
+ * <p>
+ * Per-route limits use the {@code local-rate-limiter.*} filter arguments, the same way
+ * {@code redis-rate-limiter.*} configures the Redis implementation.
+ */
+@Component
+public class LocalTokenBucketRateLimiter extends AbstractRateLimiter<LocalTokenBucketRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "local-rate-limiter";
+
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    private static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    private static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+
+    private final Cache<String, TokenBucket> buckets;
+    private final Config defaultConfig;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> allowedCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    public LocalTokenBucketRateLimiter(ConfigurationService configurationService,
+                                       @Value("${gateway.rate-limit.default-replenish-rate:20}") int replenishRate,
+                                       @Value("${gateway.rate-limit.default-burst-capacity:40}") int burstCapacity,
+                                       @Value("${gateway.rate-limit.maximum-keys:100000}") long maximumKeys,
+                                       @Value("${gateway.rate-limit.idle-timeout:10m}") Duration idleTimeout,
+                                       MeterRegistry meterRegistry) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.defaultConfig = new Config();
+        this.defaultConfig.setReplenishRate(replenishRate);
+        this.defaultConfig.setBurstCapacity(burstCapacity);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = getConfig().getOrDefault(routeId, defaultConfig);
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(routeId + '|' + id, ignored -> new TokenBucket(config.getBurstCapacity(), now));
+        long remaining = bucket.tryConsume(config.getRequestedTokens(), config.getBurstCapacity(),
+                config.getReplenishRate(), now);
+
+        boolean allowed = remaining >= 0;
+        counter(allowed ? allowedCounters : rejectedCounters, routeId, allowed ? "allowed" : "rejected").increment();
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put(REMAINING_HEADER, Long.toString(Math.max(remaining, 0)));
+        headers.put(REPLENISH_RATE_HEADER, Integer.toString(config.getReplenishRate()));
+        headers.put(BURST_CAPACITY_HEADER, Integer.toString(config.getBurstCapacity()));
+        return Mono.just(new Response(allowed, headers));
+    }
+
+    private Counter counter(Map<String, Counter> counters, String routeId, String outcome) {
+        return counters.computeIfAbsent(routeId, route -> Counter.builder("gateway.ratelimit.requests")
+                .tag("route", route)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    public static class Config {
+
+        private int replenishRate;
+        private int burstCapacity;
+        private int requestedTokens = 1;
+
+        public int getReplenishRate() {
+            return replenishRate;
+        }
+
+        public Config setReplenishRate(int replenishRate) {
+            this.replenishRate = replenishRate;
+            return this;
+        }
+
+        public int getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public Config setBurstCapacity(int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+            return this;
+        }
+
+        public int getRequestedTokens() {
+            return requestedTokens;
+        }
+
+        public Config setRequestedTokens(int requestedTokens) {
+            this.requestedTokens = requestedTokens;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.aarogya.api_gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket. The token count and refill timestamp are swapped together through a single
+ * {@link AtomicReference}, so concurrent requests for the same key retry a CAS instead of blocking.
+ */
+final class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final AtomicReference<State> state;
+
+    TokenBucket(long capacity, long nowNanos) {
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * Takes {@code requested} tokens if available and returns the tokens left, or {@code -1} if the
+     * request has to be rejected.
+     */
+    long tryConsume(long requested, long capacity, double replenishPerSecond, long nowNanos) {
+        while (true) {
+            State current = state.get();
+            long elapsed = Math.max(0, nowNanos - current.refilledAtNanos());
+            double refilled = Math.min(capacity, current.tokens() + elapsed * replenishPerSecond / NANOS_PER_SECOND);
+            boolean allowed = refilled >= requested;
+            State next = new State(allowed ? refilled - requested : refilled, nowNanos);
+            if (state.compareAndSet(current, next)) {
+                return allowed ? (long) next.tokens() : -1;
+            }
+        }
+    }
+
+    private record State(double tokens, long refilledAtNanos) {
+    }
+}
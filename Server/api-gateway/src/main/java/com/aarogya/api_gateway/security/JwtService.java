@@ -1,34 +1,74 @@
 package com.aarogya.api_gateway.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secretKey}")
-    private String secretKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final long maxTtlNanos;
 
-    private SecretKey getSecretKey() {
+    public JwtService(@Value("${jwt.secretKey}") String secretKey,
+                      @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+                      @Value("${jwt.cache.max-ttl:15m}") Duration maxTtl,
+                      MeterRegistry meterRegistry) {
+        this.jwtParser = Jwts
+                .parser()
+                .verifyWith(buildSecretKey(secretKey))
+                .build();
+        this.maxTtlNanos = maxTtl.toNanos();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtClaims");
+    }
+
+    private static SecretKey buildSecretKey(String secretKey) {
         if (secretKey == null || secretKey.length() < 32) {
-            throw new IllegalStateException("Secret key must be at least 32 characters long for HS256:"+secretKey.length()+secretKey);
+            throw new IllegalStateException("Secret key must be at least 32 characters long for HS256");
         }
         return Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
     }
 
-    public Map<String, String> getUserDetails(String token){
-        Claims claims = Jwts
-                .parser()
-                .verifyWith(getSecretKey())
-                .build()
+    public Map<String, String> getUserDetails(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && !cached.isExpired()) {
+            return cached.userDetails();
+        }
+
+        VerifiedToken verified = verify(token);
+        verifiedTokens.put(digest, verified);
+        return verified.userDetails();
+    }
+
+    private VerifiedToken verify(String token) {
+        Claims claims = jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
 
@@ -37,6 +77,47 @@ public class JwtService {
         userDetails.put("id", claims.getSubject());
         userDetails.put("role", claims.get("role", String.class));
 
-        return userDetails;
+        Date expiration = claims.getExpiration();
+        long expiresAtMillis = expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+
+        return new VerifiedToken(Collections.unmodifiableMap(userDetails), expiresAtMillis);
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record VerifiedToken(Map<String, String> userDetails, long expiresAtMillis) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAtMillis;
+        }
+    }
+
+    private class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long untilExpiryMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            if (untilExpiryMillis <= 0) {
+                return 0;
+            }
+            return Math.min(TimeUnit.MILLISECONDS.toNanos(untilExpiryMillis), maxTtlNanos);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,115 @@
+package com.aarogya.api_gateway.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PublicEndpointMatcherTest {
+
+    @Test
+    void matchesWholeSegmentPrefixes() {
+        PublicEndpointMatcher matcher = new PublicEndpointMatcher(List.of(rule("/article/**")));
+
+        assertThat(matcher.matches("GET", "/article")).isTrue();
+        assertThat(matcher.matches("GET", "/article/123")).isTrue();
+        assertThat(matcher.matches("GET", "/article/123/comments")).isTrue();
+        assertThat(matcher.matches("GET", "/articles")).isFalse();
+        assertThat(matcher.matches("GET", "/art")).isFalse();
+        assertThat(matcher.matches("GET", "/pharmacy/article")).isFalse();
+    }
+
+    @Test
+    void restrictsRulesToTheirMethods() {
+        PublicEndpointMatcher matcher = new PublicEndpointMatcher(List.of(
+                rule("/article", "get", "HEAD"),
+                rule("/auth/login", "POST")));
+
+        assertThat(matcher.matches("GET", "/article/1")).isTrue();
+        assertThat(matcher.matches("HEAD", "/article/1")).isTrue();
+        assertThat(matcher.matches("DELETE", "/article/1")).isFalse();
+        assertThat(matcher.matches("POST", "/auth/login")).isTrue();
+        assertThat(matcher.matches("GET", "/auth/login")).isFalse();
+        assertThat(matcher.matches("POST", "/auth")).isFalse();
+    }
+
+    @Test
+    void stopsAtTheShallowestMatchingRule() {
+        PublicEndpointMatcher matcher = new PublicEndpointMatcher(List.of(
+                rule("/pharmacy/medicines", "GET"),
+                rule("/pharmacy/medicines/search")));
+
+        assertThat(matcher.matches("POST", "/pharmacy/medicines/search")).isTrue();
+        assertThat(matcher.matches("POST", "/pharmacy/medicines/1")).isFalse();
+        assertThat(matcher.matches("GET", "/pharmacy/medicines/1")).isTrue();
+        assertThat(matcher.matches("GET", "/pharmacy")).isFalse();
+    }
+
+    @Test
+    void ignoresRepeatedAndTrailingSlashes() {
+        PublicEndpointMatcher matcher = new PublicEndpointMatcher(List.of(rule("/auth/signup/")));
+
+        assertThat(matcher.matches("POST", "//auth//signup/")).isTrue();
+        assertThat(matcher.matches("POST", "/auth/signup/doctor")).isTrue();
+    }
+
+    @Test
+    void rootRuleMakesEverythingPublic() {
+        PublicEndpointMatcher matcher = new PublicEndpointMatcher(List.of(rule("/**", "OPTIONS")));
+
+        assertThat(matcher.matches("OPTIONS", "/appointment/core/patient")).isTrue();
+        assertThat(matcher.matches("GET", "/appointment/core/patient")).isFalse();
+    }
+
+    @Test
+    void noRulesMatchNothing() {
+        PublicEndpointMatcher matcher = new PublicEndpointMatcher(List.of());
+
+        assertThat(matcher.matches("GET", "/")).isFalse();
+        assertThat(matcher.matches("GET", "/article")).isFalse();
+    }
+
+    @Test
+    void rejectsRulesWithoutPath() {
+        assertThatThrownBy(() -> new PublicEndpointMatcher(List.of(rule(" "))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void refreshSwapsInTheReboundRules() {
+        PublicEndpointProperties properties = new PublicEndpointProperties();
+        properties.setRules(List.of(rule("/article", "GET")));
+        PublicEndpointConfig config = new PublicEndpointConfig(properties);
+        assertThat(config.isPublicEndpoint("GET", "/article/1")).isTrue();
+
+        // What ConfigurationPropertiesRebinder does before RefreshScopeRefreshedEvent is published
+        properties.setRules(List.of(rule("/pharmacy/medicines", "GET")));
+        assertThat(config.isPublicEndpoint("GET", "/pharmacy/medicines")).isFalse();
+        config.reload();
+
+        assertThat(config.isPublicEndpoint("GET", "/pharmacy/medicines")).isTrue();
+        assertThat(config.isPublicEndpoint("GET", "/article/1")).isFalse();
+    }
+
+    @Test
+    void refreshWithABrokenRuleKeepsThePreviousRules() {
+        PublicEndpointProperties properties = new PublicEndpointProperties();
+        properties.setRules(List.of(rule("/article", "GET")));
+        PublicEndpointConfig config = new PublicEndpointConfig(properties);
+
+        properties.setRules(List.of(rule("/pharmacy/medicines"), rule(" ")));
+        config.reload();
+
+        assertThat(config.isPublicEndpoint("GET", "/article/1")).isTrue();
+        assertThat(config.isPublicEndpoint("GET", "/pharmacy/medicines")).isFalse();
+    }
+
+    private static PublicEndpointProperties.Rule rule(String path, String... methods) {
+        PublicEndpointProperties.Rule rule = new PublicEndpointProperties.Rule();
+        rule.setPath(path);
+        rule.setMethods(List.of(methods));
+        return rule;
+    }
+}
@@ -0,0 +1,56 @@
+package com.aarogya.api_gateway.filters;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteTimingFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RouteTimingFilter routeTimingFilter = new RouteTimingFilter(meterRegistry, 1.0);
+    private final UpstreamTimingFilter upstreamTimingFilter = new UpstreamTimingFilter();
+
+    @Test
+    void serverTimingCarriesUpstreamAndGatewayDurations() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/appointment/core/1"));
+
+        routeTimingFilter.filter(exchange, throughUpstream(ex -> Mono.delay(Duration.ofMillis(20)).then())).block();
+
+        String serverTiming = exchange.getResponse().getHeaders().getFirst("Server-Timing");
+        assertThat(serverTiming).matches("upstream;dur=\\d+\\.\\d, gateway;dur=\\d+\\.\\d");
+        assertThat((Long) exchange.getAttribute(UpstreamTimingFilter.UPSTREAM_NANOS_ATTR))
+                .isGreaterThanOrEqualTo(Duration.ofMillis(20).toNanos());
+    }
+
+    @Test
+    void failedUpstreamCallIsStillTimed() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/appointment/core/1"));
+        GatewayFilterChain failingBackend = ex -> {
+            ex.getResponse().setStatusCode(HttpStatus.BAD_GATEWAY);
+            return Mono.delay(Duration.ofMillis(5)).then(Mono.error(new IllegalStateException("connection reset")));
+        };
+
+        routeTimingFilter.filter(exchange, throughUpstream(failingBackend))
+                .onErrorResume(IllegalStateException.class, e -> exchange.getResponse().setComplete())
+                .block();
+
+        assertThat(exchange.getResponse().getHeaders().getFirst("Server-Timing")).startsWith("upstream;dur=");
+    }
+
+    /**
+     * Mirrors the real chain: UpstreamTimingFilter wraps the routing call, and the response is written,
+     * and so committed, as soon as that call completes, the way NettyWriteResponseFilter does it.
+     */
+    private GatewayFilterChain throughUpstream(GatewayFilterChain backend) {
+        return exchange -> upstreamTimingFilter.filter(exchange, backend)
+                .then(Mono.defer(() -> exchange.getResponse().setComplete()));
+    }
+}
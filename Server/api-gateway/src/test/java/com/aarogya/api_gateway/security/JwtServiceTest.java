@@ -0,0 +1,98 @@
+package com.aarogya.api_gateway.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void servesRepeatedTokensFromCache() {
+        JwtService jwtService = new JwtService(SECRET, 100, Duration.ofMinutes(15), meterRegistry);
+        String token = token("user-1", "DOCTOR", Duration.ofHours(1));
+
+        Map<String, String> first = jwtService.getUserDetails(token);
+        Map<String, String> second = jwtService.getUserDetails(token);
+
+        assertThat(first).containsEntry("id", "user-1").containsEntry("role", "DOCTOR");
+        assertThat(second).isSameAs(first);
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void reverifiesOnceMaxTtlHasPassed() throws InterruptedException {
+        JwtService jwtService = new JwtService(SECRET, 100, Duration.ofMillis(50), meterRegistry);
+        String token = token("user-1", "PATIENT", Duration.ofHours(1));
+
+        jwtService.getUserDetails(token);
+        Thread.sleep(100);
+        jwtService.getUserDetails(token);
+
+        assertThat(gets("hit")).isZero();
+        assertThat(gets("miss")).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsCachedTokenOnceItExpires() throws InterruptedException {
+        JwtService jwtService = new JwtService(SECRET, 100, Duration.ofMinutes(15), meterRegistry);
+        // JWT expiry has second precision, so allow for the truncation
+        String token = token("user-1", "PATIENT", Duration.ofSeconds(2));
+
+        assertThat(jwtService.getUserDetails(token)).containsEntry("id", "user-1");
+        Thread.sleep(2100);
+
+        assertThatThrownBy(() -> jwtService.getUserDetails(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void doesNotCacheRejectedTokens() {
+        JwtService jwtService = new JwtService(SECRET, 100, Duration.ofMinutes(15), meterRegistry);
+        String forged = Jwts.builder()
+                .subject("user-1")
+                .claim("role", "DOCTOR")
+                .signWith(Keys.hmacShaKeyFor("another-secret-another-secret-42".getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThatThrownBy(() -> jwtService.getUserDetails(forged)).isInstanceOf(SignatureException.class);
+        assertThatThrownBy(() -> jwtService.getUserDetails(forged)).isInstanceOf(SignatureException.class);
+        assertThat(gets("hit")).isZero();
+    }
+
+    @Test
+    void rejectsShortSecret() {
+        assertThatThrownBy(() -> new JwtService("too-short", 100, Duration.ofMinutes(15), meterRegistry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static String token(String userId, String role, Duration validFor) {
+        return Jwts.builder()
+                .subject(userId)
+                .claim("role", role)
+                .expiration(new Date(System.currentTimeMillis() + validFor.toMillis()))
+                .signWith(KEY)
+                .compact();
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "jwtClaims").tag("result", result)
+                .functionCounter().count();
+    }
+}
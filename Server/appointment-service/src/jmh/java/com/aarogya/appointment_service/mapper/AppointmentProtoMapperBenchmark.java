@@ -0,0 +1,52 @@
+package com.aarogya.appointment_service.mapper;
+
+import appointment.Appointment;
+import com.aarogya.appointment_service.dto.response.AppointmentResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one appointment message with nested doctor and patient, as streamed by AppointmentGrpcService:
+ * building it with {@link AppointmentProtoMapper}, and building plus serializing it, which is what each
+ * streamed item costs before it reaches the transport. Run with {@code -prof gc} for the allocation.
+ * <p>
+ * The ModelMapper bean that used to build these messages is not a baseline here: with its strict field
+ * matching it returned an empty message, so it was cheaper only because it copied nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppointmentProtoMapperBenchmark {
+
+    private AppointmentResponseDto appointment;
+    private AppointmentProtoMapper protoMapper;
+
+    @Setup
+    public void setUp() {
+        appointment = AppointmentProtoMapperTest.fullAppointment();
+        protoMapper = new AppointmentProtoMapper();
+    }
+
+    @Benchmark
+    public Appointment.AppointmentResponseDto toProto() {
+        return protoMapper.toProto(appointment);
+    }
+
+    @Benchmark
+    public byte[] toProtoAndSerialize() {
+        return protoMapper.toProto(appointment).toByteArray();
+    }
+}
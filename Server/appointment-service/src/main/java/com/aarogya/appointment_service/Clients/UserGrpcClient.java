@@ -1,22 +1,27 @@
 package com.aarogya.appointment_service.Clients;
 
+import com.aarogya.appointment_service.config.GrpcClientConfig;
 import com.aarogya.appointment_service.dto.response.DoctorResponseDTO;
 import com.aarogya.appointment_service.dto.response.PatientResponseDTO;
 import com.aarogya.appointment_service.exceptions.*;
 import com.aarogya.auth.proto.AuthServiceGrpc;
+import com.aarogya.auth.proto.DoctorBatchResponse;
+import com.aarogya.auth.proto.DoctorListResponse;
 import com.aarogya.auth.proto.DoctorResponse;
 import com.aarogya.auth.proto.IdRequest;
+import com.aarogya.auth.proto.IdsRequest;
+import com.aarogya.auth.proto.PatientBatchResponse;
 import com.aarogya.auth.proto.PatientResponse;
+import com.aarogya.auth.proto.SpecializationRequest;
+import com.aarogya.auth_client.AuthServiceCaller;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.protobuf.Timestamp;
-import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
-import io.grpc.health.v1.HealthCheckRequest;
-import io.grpc.health.v1.HealthCheckResponse;
-import io.grpc.health.v1.HealthGrpc;
-import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
@@ -24,50 +29,41 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 
 @Service
 @Slf4j
 public class UserGrpcClient {
 
-    private final AuthServiceGrpc.AuthServiceBlockingStub authServiceBlockingStub;
-    private final ManagedChannel channel;
+    // Must not exceed MAX_BATCH_SIZE in auth-service's UserGrpcService
+    private static final int BATCH_SIZE = 500;
 
-    public UserGrpcClient() {
-        try {
-            this.channel = ManagedChannelBuilder
-                    .forAddress("localhost", 6001)
-                    .usePlaintext()
-                    .build();
+    private final AuthServiceGrpc.AuthServiceFutureStub authServiceFutureStub;
+    private final AuthServiceCaller authServiceCaller;
+    private final Cache doctorCache;
+    private final Cache patientCache;
 
-            this.authServiceBlockingStub = AuthServiceGrpc.newBlockingStub(channel);
-        } catch (Exception e) {
-            log.error("Failed to initialize gRPC Auth client", e);
-            throw new ServiceUnavailable("Auth service is currently unavailable");
-        }
+    public UserGrpcClient(CacheManager cacheManager, AuthServiceCaller authServiceCaller,
+                          GrpcChannelFactory channelFactory) {
+        this.authServiceCaller = authServiceCaller;
+        this.doctorCache = cacheManager.getCache("doctor");
+        this.patientCache = cacheManager.getCache("patient");
+        this.authServiceFutureStub = AuthServiceGrpc.newFutureStub(
+                channelFactory.createChannel(GrpcClientConfig.AUTH_SERVICE_CHANNEL));
     }
 
-    private void checkServiceHealth() {
-        HealthGrpc.HealthBlockingStub healthStub = HealthGrpc.newBlockingStub(channel);
-        try {
-            HealthCheckResponse response = healthStub.check(
-                    HealthCheckRequest.newBuilder().build());
-
-            if (response.getStatus() != HealthCheckResponse.ServingStatus.SERVING) {
-                log.error("Auth service is not healthy: {}", response.getStatus());
-                throw new ServiceUnavailable("Auth service is not healthy");
-            }
-            log.info("Auth service health status: {}", response.getStatus());
-        } catch (StatusRuntimeException e) {
-            log.error("Auth service health check failed", e);
-            throw new ServiceUnavailable("Auth service is unreachable");
-        }
+    private AuthServiceGrpc.AuthServiceFutureStub stub() {
+        return authServiceCaller.withDeadline(authServiceFutureStub);
     }
 
     @Cacheable(value = "patient", key = "#patientId")
     public PatientResponseDTO getPatient(String patientId) {
-        checkServiceHealth();
         log.info("Getting patient with id: {}", patientId);
 
         try {
@@ -77,7 +73,7 @@ public class UserGrpcClient {
                     .setId(patientId)
                     .build();
 
-            PatientResponse patient = authServiceBlockingStub.getPatientById(request);
+            PatientResponse patient = authServiceCaller.call(() -> stub().getPatientById(request));
 
             if(patient == null || patient.getId().isEmpty()) {
                 log.error("Patient with id: {} not found", patientId);
@@ -95,7 +91,6 @@ public class UserGrpcClient {
 
     @Cacheable(value = "doctor", key = "#doctorId")
     public DoctorResponseDTO getDoctor(String doctorId) {
-        checkServiceHealth();
         log.info("Getting doctor with id: {}", doctorId);
 
         try {
@@ -105,7 +100,7 @@ public class UserGrpcClient {
                     .setId(doctorId)
                     .build();
 
-            DoctorResponse doctorResponse = authServiceBlockingStub.getDoctorById(request);
+            DoctorResponse doctorResponse = authServiceCaller.call(() -> stub().getDoctorById(request));
 
             if(doctorResponse == null || doctorResponse.getId().isEmpty()) {
                 log.error("Doctor with id: {} not found", doctorId);
@@ -121,6 +116,117 @@ public class UserGrpcClient {
         }
     }
 
+    /**
+     * Resolves the doctors and patients referenced by a batch of appointments. Profiles already in the
+     * {@code doctor}/{@code patient} caches are served locally, and the misses for both roles go out as
+     * concurrent batch RPCs, so the number of calls does not grow with the number of appointments.
+     * IDs that auth-service does not know are simply absent from the result.
+     */
+    public UserProfiles getProfiles(Collection<String> doctorIds, Collection<String> patientIds) {
+        Map<String, DoctorResponseDTO> doctors = new HashMap<>();
+        Map<String, PatientResponseDTO> patients = new HashMap<>();
+        List<String> missingDoctorIds = collectCached(doctorIds, doctorCache, DoctorResponseDTO.class, doctors);
+        List<String> missingPatientIds = collectCached(patientIds, patientCache, PatientResponseDTO.class, patients);
+
+        if (missingDoctorIds.isEmpty() && missingPatientIds.isEmpty()) {
+            return new UserProfiles(doctors, patients);
+        }
+
+        log.debug("Fetching {} doctors and {} patients from auth service", missingDoctorIds.size(), missingPatientIds.size());
+
+        try {
+            authServiceCaller.execute(() -> {
+                fetchMissingProfiles(missingDoctorIds, missingPatientIds, doctors, patients);
+                return null;
+            });
+        } catch (StatusRuntimeException e) {
+            handleGrpcException(e, "Failed to get user profiles");
+        }
+
+        return new UserProfiles(doctors, patients);
+    }
+
+    public List<String> getDoctorIdsBySpecialization(String specialization) {
+        log.info("Getting doctors with specialization: {}", specialization);
+
+        try {
+            SpecializationRequest request = SpecializationRequest
+                    .newBuilder()
+                    .setSpecialization(specialization)
+                    .build();
+
+            DoctorListResponse response = authServiceCaller.call(() -> stub().getDoctorsBySpecialization(request));
+
+            return response.getDoctorsList().stream()
+                    .map(DoctorResponse::getId)
+                    .toList();
+        } catch (StatusRuntimeException e) {
+            handleGrpcException(e, "Failed to get doctors with specialization: " + specialization);
+            return List.of();
+        }
+    }
+
+    private void fetchMissingProfiles(List<String> doctorIds, List<String> patientIds,
+                                      Map<String, DoctorResponseDTO> doctors, Map<String, PatientResponseDTO> patients) {
+        List<ListenableFuture<DoctorBatchResponse>> doctorFutures = new ArrayList<>();
+        for (List<String> chunk : chunks(doctorIds)) {
+            doctorFutures.add(stub().getDoctorsByIds(IdsRequest.newBuilder().addAllIds(chunk).build()));
+        }
+        List<ListenableFuture<PatientBatchResponse>> patientFutures = new ArrayList<>();
+        for (List<String> chunk : chunks(patientIds)) {
+            patientFutures.add(stub().getPatientsByIds(IdsRequest.newBuilder().addAllIds(chunk).build()));
+        }
+
+        try {
+            for (ListenableFuture<DoctorBatchResponse> future : doctorFutures) {
+                for (DoctorResponse doctorResponse : future.get().getDoctorsList()) {
+                    DoctorResponseDTO doctor = mapToDoctorResponseDto(doctorResponse);
+                    doctors.put(doctor.getId(), doctor);
+                    doctorCache.put(doctor.getId(), doctor);
+                }
+            }
+            for (ListenableFuture<PatientBatchResponse> future : patientFutures) {
+                for (PatientResponse patientResponse : future.get().getPatientsList()) {
+                    PatientResponseDTO patient = mapToPatientResponseDTO(patientResponse);
+                    patients.put(patient.getId(), patient);
+                    patientCache.put(patient.getId(), patient);
+                }
+            }
+        } catch (ExecutionException e) {
+            doctorFutures.forEach(future -> future.cancel(true));
+            patientFutures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof StatusRuntimeException statusException) {
+                throw statusException;
+            }
+            log.error("Failed to get user profiles", e);
+            throw new ServiceUnavailable("Auth service is currently unavailable");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailable("Interrupted while fetching user profiles");
+        }
+    }
+
+    private static <T> List<String> collectCached(Collection<String> ids, Cache cache, Class<T> type, Map<String, T> found) {
+        List<String> missing = new ArrayList<>();
+        for (String id : ids) {
+            T cached = cache.get(id, type);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        return missing;
+    }
+
+    private static List<List<String>> chunks(List<String> ids) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
     private DoctorResponseDTO mapToDoctorResponseDto(DoctorResponse doctorResponse) {
         return DoctorResponseDTO.builder()
                 .id(doctorResponse.getId())
@@ -183,15 +289,6 @@ public class UserGrpcClient {
         }
     }
 
-    @PreDestroy
-    public void shutdown() {
-        try {
-            if (channel != null && !channel.isShutdown()) {
-                channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
-            }
-        } catch (InterruptedException e) {
-            log.warn("Failed to shutdown gRPC channel properly", e);
-            Thread.currentThread().interrupt();
-        }
+    public record UserProfiles(Map<String, DoctorResponseDTO> doctors, Map<String, PatientResponseDTO> patients) {
     }
 }
@@ -1,6 +1,7 @@
 package com.aarogya.appointment_service.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -11,15 +12,26 @@ import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheSpecProperties.class)
 public class CacheConfig {
 
+    /**
+     * Caches configured under appointment.caches are registered up front, which also lets actuator bind
+     * their cache.gets hit/miss metrics per cache name at startup.
+     */
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(CacheSpecProperties cacheSpecProperties) {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setCaffeine(Caffeine.newBuilder()
                 .maximumSize(1000)
                 .expireAfterWrite(30, TimeUnit.MINUTES)
                 .recordStats());
+        cacheSpecProperties.getCaches().forEach((name, spec) ->
+                cacheManager.registerCustomCache(name, Caffeine.newBuilder()
+                        .maximumSize(spec.getMaximumSize())
+                        .expireAfterWrite(spec.getTtl())
+                        .recordStats()
+                        .build()));
         return cacheManager;
     }
 }
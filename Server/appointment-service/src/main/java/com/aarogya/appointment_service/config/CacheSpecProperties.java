@@ -0,0 +1,27 @@
+package com.aarogya.appointment_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size and TTL of each named cache. Caches not listed here fall back to the cache manager's default spec.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "appointment")
+public class CacheSpecProperties {
+
+    private Map<String, CacheSpec> caches = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class CacheSpec {
+        private long maximumSize = 1000;
+        private Duration ttl = Duration.ofMinutes(30);
+    }
+}
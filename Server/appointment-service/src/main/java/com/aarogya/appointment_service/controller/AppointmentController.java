@@ -6,6 +6,7 @@ import com.aarogya.appointment_service.dto.request.AppointmentRequestDto;
 import com.aarogya.appointment_service.dto.request.EmergencyAppointmentDto;
 import com.aarogya.appointment_service.dto.request.UpdateAppointmentStatusDto;
 import com.aarogya.appointment_service.dto.response.AppointmentResponseDto;
+import com.aarogya.appointment_service.dto.response.CursorSlice;
 import com.aarogya.appointment_service.service.AppointmentService;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
@@ -66,6 +67,16 @@ public class AppointmentController {
                 .body(ApiResponse.error(apiError));
     }
 
+    public ResponseEntity<ApiResponse<CursorSlice<AppointmentResponseDto>>> appointmentSliceFallback(Throwable throwable) {
+        log.warn("Fallback method called for appointment slice", throwable);
+        ApiError apiError = new ApiError.ApiErrorBuilder()
+                .setMessage("Unable to retrieve appointments at this time. Please try again later.")
+                .setStatus(HttpStatus.SERVICE_UNAVAILABLE)
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error(apiError));
+    }
+
     @PostMapping
     @io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker(name = APPOINTMENT_SERVICE, fallbackMethod = "appointmentServiceFallback")
     @RateLimiter(name = APPOINTMENT_SERVICE, fallbackMethod = "rateLimitFallback")
@@ -137,6 +148,36 @@ public class AppointmentController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/patient/slice")
+    @io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker(name = APPOINTMENT_SERVICE, fallbackMethod = "appointmentSliceFallback")
+    @RateLimiter(name = APPOINTMENT_SERVICE, fallbackMethod = "rateLimitFallback")
+    public ResponseEntity<ApiResponse<CursorSlice<AppointmentResponseDto>>> getPatientAppointmentSlice(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Fetching patient appointment slice with filters - status: {}, date: {}", status, date);
+        CursorSlice<AppointmentResponseDto> response = appointmentService.getPatientAppointmentSlice(
+                status, date, cursor, page, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/doctor/slice")
+    @io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker(name = APPOINTMENT_SERVICE, fallbackMethod = "appointmentSliceFallback")
+    @RateLimiter(name = APPOINTMENT_SERVICE, fallbackMethod = "rateLimitFallback")
+    public ResponseEntity<ApiResponse<CursorSlice<AppointmentResponseDto>>> getDoctorAppointmentSlice(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Fetching doctor appointment slice with filters - status: {}, date: {}", status, date);
+        CursorSlice<AppointmentResponseDto> response = appointmentService.getDoctorAppointmentSlice(
+                status, date, cursor, page, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/upcoming")
     @io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker(name = APPOINTMENT_SERVICE, fallbackMethod = "appointmentListFallback")
     @RateLimiter(name = APPOINTMENT_SERVICE, fallbackMethod = "rateLimitFallback")
@@ -3,6 +3,7 @@ package com.aarogya.appointment_service.controller;
 import com.aarogya.appointment_service.advices.ApiError;
 import com.aarogya.appointment_service.advices.ApiResponse;
 import com.aarogya.appointment_service.dto.request.FollowUpRequestDto;
+import com.aarogya.appointment_service.dto.response.CursorSlice;
 import com.aarogya.appointment_service.dto.response.FollowUpResponseDto;
 import com.aarogya.appointment_service.service.FollowUpService;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
@@ -100,6 +101,16 @@ public class FollowUpController {
                 .body(ApiResponse.error(apiError));
     }
 
+    public ResponseEntity<ApiResponse<CursorSlice<FollowUpResponseDto>>> followUpSliceFallback(Throwable throwable) {
+        log.warn("Fallback method called for follow-up slice", throwable);
+        ApiError apiError = new ApiError.ApiErrorBuilder()
+                .setMessage("Unable to retrieve follow-ups at this time. Please try again later.")
+                .setStatus(HttpStatus.SERVICE_UNAVAILABLE)
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error(apiError));
+    }
+
     @PostMapping
     @io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker(name = FOLLOW_UP_SERVICE, fallbackMethod = "followUpServiceFallback")
     @RateLimiter(name = FOLLOW_UP_SERVICE, fallbackMethod = "rateLimitFallback")
@@ -123,6 +134,19 @@ public class FollowUpController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/slice")
+    @io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker(name = FOLLOW_UP_SERVICE, fallbackMethod = "followUpSliceFallback")
+    @RateLimiter(name = FOLLOW_UP_SERVICE, fallbackMethod = "rateLimitFallback")
+    public ResponseEntity<ApiResponse<CursorSlice<FollowUpResponseDto>>> getFollowUpSlice(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        CursorSlice<FollowUpResponseDto> response = followUpService.getFollowUpSlice(status, cursor, page, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/date-range")
     @io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker(name = FOLLOW_UP_SERVICE, fallbackMethod = "followUpListFallback")
     @RateLimiter(name = FOLLOW_UP_SERVICE, fallbackMethod = "rateLimitFallback")
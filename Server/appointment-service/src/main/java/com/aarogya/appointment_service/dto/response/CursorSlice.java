@@ -0,0 +1,22 @@
+package com.aarogya.appointment_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One slice of a listing, returned without a total count. Pass {@code nextCursor} back as the cursor
+ * parameter to read the following slice; it is null on the last one.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorSlice<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
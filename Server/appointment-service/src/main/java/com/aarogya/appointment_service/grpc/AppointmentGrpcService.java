@@ -3,21 +3,29 @@ package com.aarogya.appointment_service.grpc;
 import appointment.Appointment;
 import appointment.AppointmentServiceGrpc;
 import com.aarogya.appointment_service.dto.response.AppointmentResponseDto;
+import com.aarogya.appointment_service.dto.response.CursorSlice;
+import com.aarogya.appointment_service.exceptions.BadRequestException;
+import com.aarogya.appointment_service.exceptions.ResourceNotFound;
+import com.aarogya.appointment_service.mapper.AppointmentProtoMapper;
 import com.aarogya.appointment_service.service.AppointmentService;
+import com.google.protobuf.Timestamp;
 import io.grpc.Status;
-import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.service.GrpcService;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.Cache;
 import org.springframework.data.domain.Page;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @GrpcService
 @RequiredArgsConstructor
@@ -25,14 +33,14 @@ import java.util.stream.Collectors;
 public class AppointmentGrpcService extends AppointmentServiceGrpc.AppointmentServiceImplBase {
 
     private final AppointmentService appointmentService;
-    private final ModelMapper modelMapper;
+    private final AppointmentProtoMapper appointmentProtoMapper;
 
     @Override
     public void getAppointmentDetails(Appointment.AppointmentIdRequest request, StreamObserver<Appointment.AppointmentResponseDto> responseObserver) {
         log.info("Getting appointment details for id {}", request.getAppointmentId());
         AppointmentResponseDto appointment = appointmentService.getAppointmentDetails(request.getAppointmentId());
         try {
-            Appointment.AppointmentResponseDto grpcAppointment = modelMapper.map(appointment, Appointment.AppointmentResponseDto.class);
+            Appointment.AppointmentResponseDto grpcAppointment = appointmentProtoMapper.toProto(appointment);
             responseObserver.onNext(grpcAppointment);
             log.info("Sent appointment details for id {}", request.getAppointmentId());
             responseObserver.onCompleted();
@@ -55,6 +63,78 @@ public class AppointmentGrpcService extends AppointmentServiceGrpc.AppointmentSe
         handleAppointmentRequest(request, responseObserver, false);
     }
 
+    @Override
+    public void streamDoctorAppointments(Appointment.AppointmentStreamRequest request,
+                                         StreamObserver<Appointment.AppointmentResponseDto> responseObserver) {
+        log.info("Streaming appointments for doctor {}", request.getUserId());
+        try {
+            streamToClient(appointmentService.streamDoctorAppointments(request.getUserId(),
+                    request.hasFromDate() ? toLocalDate(request.getFromDate()) : null,
+                    request.hasToDate() ? toLocalDate(request.getToDate()) : null, request.getStatus()),
+                    responseObserver, "streamDoctorAppointments");
+        } catch (Exception e) {
+            handleError(responseObserver, e, "streamDoctorAppointments");
+        }
+    }
+
+    @Override
+    public void streamPatientAppointments(Appointment.AppointmentStreamRequest request,
+                                          StreamObserver<Appointment.AppointmentResponseDto> responseObserver) {
+        log.info("Streaming appointments for patient {}", request.getUserId());
+        try {
+            streamToClient(appointmentService.streamPatientAppointments(request.getUserId(),
+                    request.hasFromDate() ? toLocalDate(request.getFromDate()) : null,
+                    request.hasToDate() ? toLocalDate(request.getToDate()) : null, request.getStatus()),
+                    responseObserver, "streamPatientAppointments");
+        } catch (Exception e) {
+            handleError(responseObserver, e, "streamPatientAppointments");
+        }
+    }
+
+    /**
+     * Sends the stream only as fast as the client reads it: messages are pushed from the on-ready callback
+     * while the transport has room, so a slow consumer pauses the database cursor instead of filling
+     * server memory. The cursor is closed on completion, failure or cancellation.
+     */
+    private void streamToClient(Stream<AppointmentResponseDto> appointments,
+                                StreamObserver<Appointment.AppointmentResponseDto> responseObserver,
+                                String methodName) {
+        ServerCallStreamObserver<Appointment.AppointmentResponseDto> serverObserver =
+                (ServerCallStreamObserver<Appointment.AppointmentResponseDto>) responseObserver;
+        Iterator<AppointmentResponseDto> iterator = appointments.iterator();
+        AtomicBoolean finished = new AtomicBoolean();
+
+        serverObserver.setOnCancelHandler(() -> {
+            if (finished.compareAndSet(false, true)) {
+                log.info("Client cancelled {}", methodName);
+                appointments.close();
+            }
+        });
+        serverObserver.setOnReadyHandler(() -> {
+            try {
+                while (serverObserver.isReady() && !finished.get()) {
+                    if (!iterator.hasNext()) {
+                        if (finished.compareAndSet(false, true)) {
+                            appointments.close();
+                            serverObserver.onCompleted();
+                        }
+                        return;
+                    }
+                    serverObserver.onNext(appointmentProtoMapper.toProto(iterator.next()));
+                }
+            } catch (Exception e) {
+                if (finished.compareAndSet(false, true)) {
+                    appointments.close();
+                    handleError(serverObserver, e, methodName);
+                }
+            }
+        });
+    }
+
+    private static LocalDate toLocalDate(Timestamp timestamp) {
+        return Instant.ofEpochSecond(timestamp.getSeconds()).atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
     private void handleAppointmentRequest(Appointment.AppointmentPageRequest request,
                                           StreamObserver<Appointment.AppointmentPageResponse> responseObserver,
                                           boolean isPatient) {
@@ -65,6 +145,12 @@ public class AppointmentGrpcService extends AppointmentServiceGrpc.AppointmentSe
                     .toLocalDate()
                     : null;
 
+            if (request.getSlice() || !request.getCursor().isEmpty()) {
+                responseObserver.onNext(buildSliceResponse(request, localDate, isPatient));
+                responseObserver.onCompleted();
+                return;
+            }
+
             Page<AppointmentResponseDto> appointments = isPatient
                     ? appointmentService.getPatientAppointments(
                     request.getStatus(), localDate, request.getPage(), request.getSize())
@@ -73,13 +159,14 @@ public class AppointmentGrpcService extends AppointmentServiceGrpc.AppointmentSe
 
             List<Appointment.AppointmentResponseDto> grpcAppointments = appointments.getContent()
                     .stream()
-                    .map(dto -> modelMapper.map(dto, Appointment.AppointmentResponseDto.class))
+                    .map(appointmentProtoMapper::toProto)
                     .collect(Collectors.toList());
 
             Appointment.AppointmentPageResponse response = Appointment.AppointmentPageResponse.newBuilder()
                     .addAllAppointments(grpcAppointments)
                     .setCurrentPage(appointments.getNumber())
-                    .setTotalElements(appointments.getSize())
+                    .setTotalElements((int) appointments.getTotalElements())
+                    .setHasNext(appointments.hasNext())
                     .setTotalPages(appointments.getTotalPages())
                     .build();
 
@@ -92,12 +179,40 @@ public class AppointmentGrpcService extends AppointmentServiceGrpc.AppointmentSe
         }
     }
 
+    private Appointment.AppointmentPageResponse buildSliceResponse(Appointment.AppointmentPageRequest request,
+                                                                   LocalDate localDate, boolean isPatient) {
+        CursorSlice<AppointmentResponseDto> appointments = isPatient
+                ? appointmentService.getPatientAppointmentSlice(
+                request.getStatus(), localDate, request.getCursor(), request.getPage(), request.getSize())
+                : appointmentService.getDoctorAppointmentSlice(
+                request.getStatus(), localDate, request.getCursor(), request.getPage(), request.getSize());
+
+        Appointment.AppointmentPageResponse.Builder response = Appointment.AppointmentPageResponse.newBuilder()
+                .addAllAppointments(appointments.getContent().stream()
+                        .map(appointmentProtoMapper::toProto)
+                        .collect(Collectors.toList()))
+                .setCurrentPage(request.getCursor().isEmpty() ? request.getPage() : 0)
+                .setHasNext(appointments.isHasNext());
+        if (appointments.getNextCursor() != null) {
+            response.setNextCursor(appointments.getNextCursor());
+        }
+        return response.build();
+    }
+
     private void handleError(StreamObserver<?> responseObserver, Exception e, String methodName) {
-        log.error("Error in {}: {}", methodName, e.getMessage(), e);
-        StatusRuntimeException statusException = Status.INTERNAL
-                .withDescription("Internal server error in " + methodName)
-                .withCause(e)
-                .asRuntimeException();
-        responseObserver.onError(statusException);
+        // Failures inside the response caches' value loaders arrive wrapped
+        Throwable cause = e instanceof Cache.ValueRetrievalException && e.getCause() != null ? e.getCause() : e;
+        Status status;
+        if (cause instanceof ResourceNotFound) {
+            log.warn("Not found in {}: {}", methodName, cause.getMessage());
+            status = Status.NOT_FOUND.withDescription(cause.getMessage());
+        } else if (cause instanceof BadRequestException badRequest) {
+            log.warn("Bad request in {}: {}", methodName, badRequest.getReason());
+            status = Status.INVALID_ARGUMENT.withDescription(badRequest.getReason());
+        } else {
+            log.error("Error in {}: {}", methodName, cause.getMessage(), cause);
+            status = Status.INTERNAL.withDescription("Internal server error in " + methodName).withCause(cause);
+        }
+        responseObserver.onError(status.asRuntimeException());
     }
 }
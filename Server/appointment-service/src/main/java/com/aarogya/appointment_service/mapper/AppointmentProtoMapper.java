@@ -0,0 +1,159 @@
+package com.aarogya.appointment_service.mapper;
+
+import appointment.Appointment;
+import com.aarogya.appointment_service.dto.response.AppointmentResponseDto;
+import com.aarogya.appointment_service.dto.response.DoctorResponseDTO;
+import com.aarogya.appointment_service.dto.response.PatientResponseDTO;
+import org.springframework.stereotype.Component;
+
+import static com.aarogya.grpc_common.ProtoTimestamps.toTimestamp;
+
+/**
+ * Builds the protobuf messages of appointment.proto field by field. Proto3 setters reject nulls, so unset
+ * DTO fields are simply left at their proto defaults. The prescription-service AppointmentProtoMapper reads
+ * these messages back and must follow the same conventions for dates and times.
+ */
+@Component
+public class AppointmentProtoMapper {
+
+    public Appointment.AppointmentResponseDto toProto(AppointmentResponseDto dto) {
+        Appointment.AppointmentResponseDto.Builder builder = Appointment.AppointmentResponseDto.newBuilder();
+        if (dto.getId() != null) {
+            builder.setId(dto.getId());
+        }
+        if (dto.getAppointmentDate() != null) {
+            builder.setAppointmentDate(toTimestamp(dto.getAppointmentDate()));
+        }
+        if (dto.getStartTime() != null) {
+            builder.setStartTime(dto.getStartTime().toString());
+        }
+        if (dto.getEndTime() != null) {
+            builder.setEndTime(dto.getEndTime().toString());
+        }
+        if (dto.getStatus() != null) {
+            builder.setStatus(Appointment.AppointmentStatus.valueOf(dto.getStatus().name()));
+        }
+        if (dto.getType() != null) {
+            builder.setType(Appointment.AppointmentType.valueOf(dto.getType().name()));
+        }
+        if (dto.getReason() != null) {
+            builder.setReason(dto.getReason());
+        }
+        if (dto.getSymptoms() != null) {
+            builder.addAllSymptoms(dto.getSymptoms());
+        }
+        if (dto.getNotes() != null) {
+            builder.setNotes(dto.getNotes());
+        }
+        if (dto.getDoctorNotes() != null) {
+            builder.setDoctorNotes(dto.getDoctorNotes());
+        }
+        if (dto.getPriority() != null) {
+            builder.setPriority(dto.getPriority());
+        }
+        if (dto.getMeetingLink() != null) {
+            builder.setMeetingLink(dto.getMeetingLink());
+        }
+        if (dto.getIsVirtual() != null) {
+            builder.setIsVirtual(dto.getIsVirtual());
+        }
+        if (dto.getCancellationReason() != null) {
+            builder.setCancellationReason(dto.getCancellationReason());
+        }
+        if (dto.getCreatedAt() != null) {
+            builder.setCreatedAt(toTimestamp(dto.getCreatedAt()));
+        }
+        if (dto.getUpdatedAt() != null) {
+            builder.setUpdatedAt(toTimestamp(dto.getUpdatedAt()));
+        }
+        if (dto.getDoctor() != null) {
+            builder.setDoctor(toProto(dto.getDoctor()));
+        }
+        if (dto.getPatientDetails() != null) {
+            builder.setPatientDetails(toProto(dto.getPatientDetails()));
+        }
+        return builder.build();
+    }
+
+    public Appointment.DoctorResponseDTO toProto(DoctorResponseDTO dto) {
+        Appointment.DoctorResponseDTO.Builder builder = Appointment.DoctorResponseDTO.newBuilder();
+        if (dto.getId() != null) {
+            builder.setId(dto.getId());
+        }
+        if (dto.getEmail() != null) {
+            builder.setEmail(dto.getEmail());
+        }
+        if (dto.getFirstName() != null) {
+            builder.setFirstName(dto.getFirstName());
+        }
+        if (dto.getLastName() != null) {
+            builder.setLastName(dto.getLastName());
+        }
+        if (dto.getSpecialization() != null) {
+            builder.setSpecialization(dto.getSpecialization());
+        }
+        if (dto.getLicenseNumber() != null) {
+            builder.setLicenseNumber(dto.getLicenseNumber());
+        }
+        if (dto.getExperienceYears() != null) {
+            builder.setExperienceYears(dto.getExperienceYears());
+        }
+        if (dto.getPhone() != null) {
+            builder.setPhone(dto.getPhone());
+        }
+        if (dto.getAddress() != null) {
+            builder.setAddress(dto.getAddress());
+        }
+        if (dto.getImageUrl() != null) {
+            builder.setImageUrl(dto.getImageUrl());
+        }
+        if (dto.getCreatedAt() != null) {
+            builder.setCreatedAt(toTimestamp(dto.getCreatedAt()));
+        }
+        return builder.build();
+    }
+
+    public Appointment.PatientResponseDTO toProto(PatientResponseDTO dto) {
+        Appointment.PatientResponseDTO.Builder builder = Appointment.PatientResponseDTO.newBuilder();
+        if (dto.getId() != null) {
+            builder.setId(dto.getId());
+        }
+        if (dto.getEmail() != null) {
+            builder.setEmail(dto.getEmail());
+        }
+        if (dto.getFirstName() != null) {
+            builder.setFirstName(dto.getFirstName());
+        }
+        if (dto.getLastName() != null) {
+            builder.setLastName(dto.getLastName());
+        }
+        if (dto.getDateOfBirth() != null) {
+            builder.setDateOfBirth(toTimestamp(dto.getDateOfBirth()));
+        }
+        if (dto.getGender() != null) {
+            builder.setGender(dto.getGender());
+        }
+        if (dto.getBloodGroup() != null) {
+            builder.setBloodGroup(dto.getBloodGroup());
+        }
+        if (dto.getPhone() != null) {
+            builder.setPhone(dto.getPhone());
+        }
+        if (dto.getAddress() != null) {
+            builder.setAddress(dto.getAddress());
+        }
+        if (dto.getImageUrl() != null) {
+            builder.setImageUrl(dto.getImageUrl());
+        }
+        if (dto.getEmergencyContact() != null) {
+            builder.setEmergencyContact(dto.getEmergencyContact());
+        }
+        if (dto.getEmergencyPhone() != null) {
+            builder.setEmergencyPhone(dto.getEmergencyPhone());
+        }
+        if (dto.getCreatedAt() != null) {
+            builder.setCreatedAt(toTimestamp(dto.getCreatedAt()));
+        }
+        return builder.build();
+    }
+}
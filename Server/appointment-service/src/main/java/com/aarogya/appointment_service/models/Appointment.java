@@ -24,8 +24,8 @@ import java.util.List;
 @Builder
 @Document(collection = "appointments")
 @CompoundIndexes({
-        @CompoundIndex(name = "doctor_date_time_idx", def = "{'doctorId': 1, 'appointmentDate': 1, 'startTime': 1}"),
-        @CompoundIndex(name = "patient_date_idx", def = "{'patientId': 1, 'appointmentDate': -1}"),
+        @CompoundIndex(name = "doctor_date_time_id_idx", def = "{'doctorId': 1, 'appointmentDate': 1, 'startTime': 1, '_id': 1}"),
+        @CompoundIndex(name = "patient_date_time_id_idx", def = "{'patientId': 1, 'appointmentDate': -1, 'startTime': -1, '_id': -1}"),
         @CompoundIndex(name = "status_date_idx", def = "{'status': 1, 'appointmentDate': -1}")
 })
 public class Appointment {
@@ -0,0 +1,42 @@
+package com.aarogya.appointment_service.models;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalTime;
+
+/**
+ * Read-only view of the weekly schedule doctor-service keeps in the shared database. Doctor-service owns
+ * the collection and its indexes; this service never writes to it.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Document(collection = "doctor_availability")
+public class DoctorAvailability {
+
+    @Id
+    private String id;
+
+    private String doctorId;
+    // 0 = Sunday ... 6 = Saturday, as stored by doctor-service
+    private Integer dayOfWeek;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private LocalTime breakStart;
+    private LocalTime breakEnd;
+    private Boolean isAvailable;
+
+    public boolean covers(LocalTime time) {
+        if (!Boolean.TRUE.equals(isAvailable)) {
+            return false;
+        }
+        if (startTime != null && time.isBefore(startTime) || endTime != null && !time.isBefore(endTime)) {
+            return false;
+        }
+        return breakStart == null || breakEnd == null || time.isBefore(breakStart) || !time.isBefore(breakEnd);
+    }
+}
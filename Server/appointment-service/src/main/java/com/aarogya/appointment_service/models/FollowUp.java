@@ -20,9 +20,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+// Keyset slices sort on (recommendedDate, _id): the status indexes serve filtered listings, the others unfiltered ones
 @CompoundIndexes({
-        @CompoundIndex(name = "doctor_status_date_idx", def = "{'doctorId': 1, 'status': 1, 'recommendedDate': 1}"),
-        @CompoundIndex(name = "patient_status_date_idx", def = "{'patientId': 1, 'status': 1, 'recommendedDate': 1}")
+        @CompoundIndex(name = "doctor_status_date_id_idx", def = "{'doctorId': 1, 'status': 1, 'recommendedDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "patient_status_date_id_idx", def = "{'patientId': 1, 'status': 1, 'recommendedDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "doctor_date_id_idx", def = "{'doctorId': 1, 'recommendedDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "patient_date_id_idx", def = "{'patientId': 1, 'recommendedDate': 1, '_id': 1}")
 })
 public class FollowUp {
 
@@ -11,11 +11,12 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AppointmentRepository extends MongoRepository<Appointment, String> {
+public interface AppointmentRepository extends MongoRepository<Appointment, String>, AppointmentRepositoryCustom {
 
     Page<Appointment> findByPatientId(String patientId, Pageable pageable);
     Page<Appointment> findByDoctorId(String doctorId, Pageable pageable);
@@ -59,6 +60,15 @@ public interface AppointmentRepository extends MongoRepository<Appointment, Stri
     List<Appointment> findConflictingAppointments(String doctorId, LocalDate date,
                                                   LocalTime startTime, LocalTime endTime, String excludeId);
 
+    @Query(value = "{ 'doctorId': ?0, 'appointmentDate': ?1, 'status': { $in: ['PENDING', 'APPROVED'] } }",
+            fields = "{ 'startTime': 1, 'endTime': 1 }")
+    List<Appointment> findBookedSlots(String doctorId, LocalDate date);
+
+    // One document per open appointment; the caller derives each doctor's load and emergency cover from them
+    @Query(value = "{ 'doctorId': { $in: ?0 }, 'appointmentDate': ?1, 'status': { $in: ['PENDING', 'APPROVED', 'IN_PROGRESS'] } }",
+            fields = "{ 'doctorId': 1, 'type': 1, 'endTime': 1 }")
+    List<Appointment> findOpenAppointmentDoctors(Collection<String> doctorIds, LocalDate date);
+
     @Query("{ 'appointmentDate': { $gte: ?0 }, 'status': { $in: ['PENDING', 'APPROVED'] } }")
     List<Appointment> findUpcomingAppointments(LocalDate fromDate);
 
@@ -0,0 +1,32 @@
+package com.aarogya.appointment_service.repository;
+
+import com.aarogya.appointment_service.models.Appointment;
+import com.aarogya.appointment_service.models.enums.AppointmentStatus;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.stream.Stream;
+
+/**
+ * Slice reads of a doctor's or patient's appointments, newest first, without the count query a
+ * {@code Page} needs. With a keyset the slice starts right after that row; without one it starts at
+ * {@code page * size}. The stream reads walk a database cursor instead and must be closed by the caller.
+ */
+public interface AppointmentRepositoryCustom {
+
+    Slice<Appointment> findDoctorAppointmentSlice(String doctorId, AppointmentStatus status, LocalDate date,
+                                                  AppointmentKeyset after, int page, int size);
+
+    Slice<Appointment> findPatientAppointmentSlice(String patientId, AppointmentStatus status, LocalDate date,
+                                                   AppointmentKeyset after, int page, int size);
+
+    Stream<Appointment> streamDoctorAppointments(String doctorId, LocalDate fromDate, LocalDate toDate,
+                                                 AppointmentStatus status);
+
+    Stream<Appointment> streamPatientAppointments(String patientId, LocalDate fromDate, LocalDate toDate,
+                                                  AppointmentStatus status);
+
+    record AppointmentKeyset(LocalDate appointmentDate, LocalTime startTime, String id) {
+    }
+}
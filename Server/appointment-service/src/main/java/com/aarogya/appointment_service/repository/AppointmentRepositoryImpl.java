@@ -0,0 +1,104 @@
+package com.aarogya.appointment_service.repository;
+
+import com.aarogya.appointment_service.models.Appointment;
+import com.aarogya.appointment_service.models.enums.AppointmentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class AppointmentRepositoryImpl implements AppointmentRepositoryCustom {
+
+    // Served by the doctor/patient compound indexes, which end in _id so ties on the same slot stay ordered
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "appointmentDate", "startTime", "id");
+
+    private static final Sort OLDEST_FIRST = Sort.by(Sort.Direction.ASC, "appointmentDate", "startTime", "id");
+    private static final int STREAM_BATCH_SIZE = 200;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Slice<Appointment> findDoctorAppointmentSlice(String doctorId, AppointmentStatus status, LocalDate date,
+                                                         AppointmentKeyset after, int page, int size) {
+        return findSlice(Criteria.where("doctorId").is(doctorId), status, date, after, page, size);
+    }
+
+    @Override
+    public Slice<Appointment> findPatientAppointmentSlice(String patientId, AppointmentStatus status, LocalDate date,
+                                                          AppointmentKeyset after, int page, int size) {
+        return findSlice(Criteria.where("patientId").is(patientId), status, date, after, page, size);
+    }
+
+    @Override
+    public Stream<Appointment> streamDoctorAppointments(String doctorId, LocalDate fromDate, LocalDate toDate,
+                                                        AppointmentStatus status) {
+        return streamRange(Criteria.where("doctorId").is(doctorId), fromDate, toDate, status);
+    }
+
+    @Override
+    public Stream<Appointment> streamPatientAppointments(String patientId, LocalDate fromDate, LocalDate toDate,
+                                                         AppointmentStatus status) {
+        return streamRange(Criteria.where("patientId").is(patientId), fromDate, toDate, status);
+    }
+
+    private Stream<Appointment> streamRange(Criteria criteria, LocalDate fromDate, LocalDate toDate,
+                                            AppointmentStatus status) {
+        if (fromDate != null || toDate != null) {
+            Criteria dateRange = criteria.and("appointmentDate");
+            if (fromDate != null) {
+                dateRange.gte(fromDate);
+            }
+            if (toDate != null) {
+                dateRange.lte(toDate);
+            }
+        }
+        if (status != null) {
+            criteria.and("status").is(status);
+        }
+        Query query = new Query(criteria)
+                .with(OLDEST_FIRST)
+                .cursorBatchSize(STREAM_BATCH_SIZE);
+        return mongoTemplate.stream(query, Appointment.class);
+    }
+
+    private Slice<Appointment> findSlice(Criteria criteria, AppointmentStatus status, LocalDate date,
+                                         AppointmentKeyset after, int page, int size) {
+        if (status != null) {
+            criteria.and("status").is(status);
+        }
+        if (date != null) {
+            criteria.and("appointmentDate").is(date);
+        }
+
+        // One extra row tells whether another slice follows, which is all a Slice needs instead of a count
+        Query query = new Query(after != null ? new Criteria().andOperator(criteria, olderThan(after)) : criteria)
+                .with(NEWEST_FIRST)
+                .limit(size + 1);
+        int pageNumber = after != null ? 0 : page;
+        query.skip((long) pageNumber * size);
+
+        List<Appointment> rows = mongoTemplate.find(query, Appointment.class);
+        boolean hasNext = rows.size() > size;
+        List<Appointment> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(pageNumber, size, NEWEST_FIRST), hasNext);
+    }
+
+    private static Criteria olderThan(AppointmentKeyset after) {
+        return new Criteria().orOperator(
+                Criteria.where("appointmentDate").lt(after.appointmentDate()),
+                Criteria.where("appointmentDate").is(after.appointmentDate())
+                        .and("startTime").lt(after.startTime()),
+                Criteria.where("appointmentDate").is(after.appointmentDate())
+                        .and("startTime").is(after.startTime())
+                        .and("id").lt(after.id()));
+    }
+}
@@ -0,0 +1,15 @@
+package com.aarogya.appointment_service.repository;
+
+import com.aarogya.appointment_service.models.DoctorAvailability;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DoctorAvailabilityRepository extends MongoRepository<DoctorAvailability, String> {
+
+    // Served by doctor-service's unique doctor_day_idx
+    List<DoctorAvailability> findByDoctorIdInAndDayOfWeek(Collection<String> doctorIds, Integer dayOfWeek);
+}
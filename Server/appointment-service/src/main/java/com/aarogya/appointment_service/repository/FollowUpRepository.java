@@ -15,7 +15,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface FollowUpRepository extends MongoRepository<FollowUp, String> {
+public interface FollowUpRepository extends MongoRepository<FollowUp, String>, FollowUpRepositoryCustom {
 
     Optional<FollowUp> findByIdAndDoctorId(String id, String doctorId);
     Optional<FollowUp> findByIdAndPatientId(String id, String patientId);
@@ -0,0 +1,21 @@
+package com.aarogya.appointment_service.repository;
+
+import com.aarogya.appointment_service.models.FollowUp;
+import com.aarogya.appointment_service.models.enums.FollowUpStatus;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDate;
+
+/**
+ * Slice reads of follow-ups ordered by recommended date, without the count query a {@code Page} needs.
+ * A null doctor and patient id reads across all users. With a keyset the slice starts right after that
+ * row; without one it starts at {@code page * size}.
+ */
+public interface FollowUpRepositoryCustom {
+
+    Slice<FollowUp> findFollowUpSlice(String doctorId, String patientId, FollowUpStatus status,
+                                      FollowUpKeyset after, int page, int size);
+
+    record FollowUpKeyset(LocalDate recommendedDate, String id) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.aarogya.appointment_service.repository;
+
+import com.aarogya.appointment_service.models.FollowUp;
+import com.aarogya.appointment_service.models.enums.FollowUpStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class FollowUpRepositoryImpl implements FollowUpRepositoryCustom {
+
+    private static final Sort SOONEST_FIRST = Sort.by(Sort.Direction.ASC, "recommendedDate", "id");
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Slice<FollowUp> findFollowUpSlice(String doctorId, String patientId, FollowUpStatus status,
+                                             FollowUpKeyset after, int page, int size) {
+        Criteria criteria = new Criteria();
+        if (doctorId != null) {
+            criteria.and("doctorId").is(doctorId);
+        }
+        if (patientId != null) {
+            criteria.and("patientId").is(patientId);
+        }
+        if (status != null) {
+            criteria.and("status").is(status);
+        }
+
+        Query query = new Query(after != null ? new Criteria().andOperator(criteria, laterThan(after)) : criteria)
+                .with(SOONEST_FIRST)
+                .limit(size + 1);
+        int pageNumber = after != null ? 0 : page;
+        query.skip((long) pageNumber * size);
+
+        List<FollowUp> rows = mongoTemplate.find(query, FollowUp.class);
+        boolean hasNext = rows.size() > size;
+        List<FollowUp> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(pageNumber, size, SOONEST_FIRST), hasNext);
+    }
+
+    private static Criteria laterThan(FollowUpKeyset after) {
+        return new Criteria().orOperator(
+                Criteria.where("recommendedDate").gt(after.recommendedDate()),
+                Criteria.where("recommendedDate").is(after.recommendedDate())
+                        .and("id").gt(after.id()));
+    }
+}
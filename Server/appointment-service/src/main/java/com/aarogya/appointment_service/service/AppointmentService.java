@@ -4,10 +4,12 @@ import com.aarogya.appointment_service.dto.request.AppointmentRequestDto;
 import com.aarogya.appointment_service.dto.request.EmergencyAppointmentDto;
 import com.aarogya.appointment_service.dto.request.UpdateAppointmentStatusDto;
 import com.aarogya.appointment_service.dto.response.AppointmentResponseDto;
+import com.aarogya.appointment_service.dto.response.CursorSlice;
 import org.springframework.data.domain.Page;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface AppointmentService {
 
@@ -25,8 +27,18 @@ public interface AppointmentService {
     Page<AppointmentResponseDto> getDoctorAppointments(String status, LocalDate date,
                                                        int page, int size);
 
+    CursorSlice<AppointmentResponseDto> getPatientAppointmentSlice(String status, LocalDate date,
+                                                                   String cursor, int page, int size);
+
+    CursorSlice<AppointmentResponseDto> getDoctorAppointmentSlice(String status, LocalDate date,
+                                                                  String cursor, int page, int size);
+
     List<AppointmentResponseDto> getUpcomingAppointments(LocalDate fromDate);
 
+    Stream<AppointmentResponseDto> streamDoctorAppointments(String doctorId, LocalDate fromDate, LocalDate toDate, String status);
+
+    Stream<AppointmentResponseDto> streamPatientAppointments(String patientId, LocalDate fromDate, LocalDate toDate, String status);
+
     List<AppointmentResponseDto> getDoctorAppointmentsBetweenDates(String doctorId, LocalDate startDate, LocalDate endDate);
 
     List<AppointmentResponseDto> getPatientAppointmentsBetweenDates(String patientId, LocalDate startDate, LocalDate endDate);
@@ -1,6 +1,7 @@
 package com.aarogya.appointment_service.service;
 
 import com.aarogya.appointment_service.dto.request.FollowUpRequestDto;
+import com.aarogya.appointment_service.dto.response.CursorSlice;
 import com.aarogya.appointment_service.dto.response.FollowUpResponseDto;
 import org.springframework.data.domain.Page;
 
@@ -13,6 +14,8 @@ public interface FollowUpService {
 
     Page<FollowUpResponseDto> getFollowUps(String status, int page, int size);
 
+    CursorSlice<FollowUpResponseDto> getFollowUpSlice(String status, String cursor, int page, int size);
+
     FollowUpResponseDto updateFollowUpStatus(String followUpId, String status);
 
     List<FollowUpResponseDto> getUrgentFollowUps(
@@ -6,6 +6,8 @@ import com.aarogya.appointment_service.dto.request.AppointmentRequestDto;
 import com.aarogya.appointment_service.dto.request.EmergencyAppointmentDto;
 import com.aarogya.appointment_service.dto.request.UpdateAppointmentStatusDto;
 import com.aarogya.appointment_service.dto.response.AppointmentResponseDto;
+import com.aarogya.appointment_service.dto.response.CursorSlice;
+import com.aarogya.appointment_service.exceptions.BadRequestException;
 import com.aarogya.appointment_service.exceptions.DataIntegrityViolation;
 import com.aarogya.appointment_service.exceptions.ResourceNotFound;
 import com.aarogya.appointment_service.exceptions.ServiceUnavailable;
@@ -13,9 +15,14 @@ import com.aarogya.appointment_service.models.Appointment;
 import com.aarogya.appointment_service.models.enums.AppointmentStatus;
 import com.aarogya.appointment_service.models.enums.AppointmentType;
 import com.aarogya.appointment_service.repository.AppointmentRepository;
+import com.aarogya.appointment_service.repository.AppointmentRepositoryCustom.AppointmentKeyset;
 import com.aarogya.appointment_service.service.AppointmentService;
 import com.aarogya.appointment_service.service.NotificationService;
+import com.aarogya.appointment_service.utils.AppointmentCacheKeys;
+import com.aarogya.appointment_service.utils.AppointmentSlotIndex;
 import com.aarogya.appointment_service.utils.AppointmentValidator;
+import com.aarogya.appointment_service.utils.EmergencyDoctorDispatcher;
+import com.aarogya.appointment_service.utils.KeysetCursor;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,8 +32,10 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,9 +43,19 @@ import org.springframework.validation.annotation.Validated;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Service
 @RequiredArgsConstructor
@@ -44,18 +63,26 @@ import java.util.stream.Collectors;
 @Validated
 public class AppointmentServiceImpl implements AppointmentService {
 
-    private static final String APPOINTMENT_CACHE = "appointments";
+    private static final String APPOINTMENT_DETAILS_CACHE = "appointmentDetails";
+    private static final String APPOINTMENT_PAGES_CACHE = "appointmentPages";
+    private static final String APPOINTMENT_RANGES_CACHE = "appointmentRanges";
+    private static final String UPCOMING_APPOINTMENTS_CACHE = "upcomingAppointments";
     private static final String EMERGENCY_APPOINTMENT_LOG_PREFIX = "[EMERGENCY]";
     private static final String REGULAR_APPOINTMENT_LOG_PREFIX = "[REGULAR]";
+    // Profiles are resolved per batch while streaming, so this also bounds one auth-service lookup
+    private static final int EXPORT_BATCH_SIZE = 200;
 
     private final AppointmentRepository appointmentRepository;
     private final UserGrpcClient authServiceClient;
     private final ModelMapper modelMapper;
     private final NotificationService notificationService;
     private final AppointmentValidator appointmentValidator;
+    private final AppointmentSlotIndex appointmentSlotIndex;
+    private final AppointmentCacheKeys appointmentCacheKeys;
+    private final EmergencyDoctorDispatcher emergencyDoctorDispatcher;
 
     @Transactional
-    @CacheEvict(value = APPOINTMENT_CACHE, allEntries = true)
+    @CacheEvict(value = UPCOMING_APPOINTMENTS_CACHE, allEntries = true)
     @Override
     public AppointmentResponseDto requestAppointment(@Valid AppointmentRequestDto requestDto) {
         final String methodName = "requestAppointment";
@@ -69,6 +96,8 @@ public class AppointmentServiceImpl implements AppointmentService {
 
             Appointment appointment = buildAppointmentFromRequest(requestDto, patientId);
             appointment = appointmentRepository.save(appointment);
+            appointmentSlotIndex.record(appointment);
+            appointmentCacheKeys.invalidate(appointment.getDoctorId(), appointment.getPatientId());
 
             notificationService.sendAppointmentRequestNotification(appointment);
             log.info("{} Appointment created successfully with ID: {}", REGULAR_APPOINTMENT_LOG_PREFIX, appointment.getId());
@@ -87,7 +116,7 @@ public class AppointmentServiceImpl implements AppointmentService {
     }
 
     @Transactional
-    @CacheEvict(value = APPOINTMENT_CACHE, key = "#appointmentId")
+    @CacheEvict(value = UPCOMING_APPOINTMENTS_CACHE, allEntries = true)
     @Override
     public AppointmentResponseDto updateAppointmentStatus(String appointmentId, @Valid UpdateAppointmentStatusDto updateDto) {
         log.info("Updating appointment status for ID: {}", appointmentId);
@@ -101,6 +130,9 @@ public class AppointmentServiceImpl implements AppointmentService {
             updateAppointmentStatus(appointment, updateDto);
 
             appointment = appointmentRepository.save(appointment);
+            appointmentSlotIndex.record(appointment);
+            emergencyDoctorDispatcher.statusChanged(appointment, oldStatus);
+            appointmentCacheKeys.invalidate(appointment.getDoctorId(), appointment.getPatientId());
 
             if (!oldStatus.equals(appointment.getStatus())) {
                 notificationService.sendAppointmentStatusUpdateNotification(appointment, oldStatus);
@@ -121,27 +153,36 @@ public class AppointmentServiceImpl implements AppointmentService {
     }
 
     @Transactional
-    @CacheEvict(value = APPOINTMENT_CACHE, allEntries = true)
+    @CacheEvict(value = UPCOMING_APPOINTMENTS_CACHE, allEntries = true)
     @Override
     public AppointmentResponseDto requestEmergencyAppointment(@Valid EmergencyAppointmentDto emergencyDto) {
         log.info("{} Processing emergency appointment request", EMERGENCY_APPOINTMENT_LOG_PREFIX);
 
         try {
             String patientId = UserContextHolder.getUserDetails().getUserId();
-            String doctorId = findAvailableDoctorForEmergency(emergencyDto.getPreferredSpecialization());
 
             LocalTime currentTime = LocalTime.now();
             LocalTime endTime = currentTime.plusMinutes(30);
 
-            Appointment appointment = buildEmergencyAppointment(emergencyDto, patientId, doctorId, currentTime, endTime);
-            appointment = appointmentRepository.save(appointment);
+            EmergencyDoctorDispatcher.Claim claim = emergencyDoctorDispatcher.claim(
+                    emergencyDto.getPreferredSpecialization(), LocalDate.now(), currentTime, endTime);
+
+            Appointment appointment = buildEmergencyAppointment(emergencyDto, patientId, claim.doctorId(), currentTime, endTime);
+            try {
+                appointment = appointmentRepository.save(appointment);
+            } catch (RuntimeException e) {
+                emergencyDoctorDispatcher.release(claim);
+                throw e;
+            }
+            appointmentSlotIndex.record(appointment);
+            appointmentCacheKeys.invalidate(appointment.getDoctorId(), appointment.getPatientId());
 
             notificationService.sendEmergencyAppointmentNotification(appointment);
             log.info("{} Emergency appointment created successfully with ID: {}", EMERGENCY_APPOINTMENT_LOG_PREFIX, appointment.getId());
 
             return mapToResponseDto(appointment);
         } catch (ResourceNotFound e) {
-            log.error("{} No available doctor found for emergency",e);
+            log.error("{} No available doctor found for emergency", EMERGENCY_APPOINTMENT_LOG_PREFIX, e);
             throw new ResourceNotFound("No available doctor found for emergency");
         } catch (DataIntegrityViolationException e) {
             log.error("{} Data integrity violation while creating emergency appointment", EMERGENCY_APPOINTMENT_LOG_PREFIX, e);
@@ -152,11 +193,7 @@ public class AppointmentServiceImpl implements AppointmentService {
         }
     }
 
-    private String findAvailableDoctorForEmergency(String preferredSpecialization) {
-        return "682c9dadc231b526e2eecca7";
-    }
-
-    @Cacheable(value = APPOINTMENT_CACHE, key = "#appointmentId")
+    @Cacheable(value = APPOINTMENT_DETAILS_CACHE, key = "@appointmentCacheKeys.forCurrentUser(#appointmentId)")
     @Transactional(readOnly = true)
     @Override
     public AppointmentResponseDto getAppointmentDetails(String appointmentId) {
@@ -177,7 +214,7 @@ public class AppointmentServiceImpl implements AppointmentService {
         }
     }
 
-    @Cacheable(value = APPOINTMENT_CACHE, key = "{#status, #date, #page, #size, 'patient'}")
+    @Cacheable(value = APPOINTMENT_PAGES_CACHE, key = "@appointmentCacheKeys.forCurrentUser('patient', #status, #date, #page, #size)")
     @Transactional(readOnly = true)
     @Override
     public Page<AppointmentResponseDto> getPatientAppointments(String status, LocalDate date, int page, int size) {
@@ -188,14 +225,14 @@ public class AppointmentServiceImpl implements AppointmentService {
             Pageable pageable = PageRequest.of(page, size, Sort.by("appointmentDate").descending().and(Sort.by("startTime").descending()));
 
             Page<Appointment> appointments = fetchPatientAppointments(patientId, AppointmentStatus.valueOf(status.toUpperCase()), date, pageable);
-            return appointments.map(this::mapToResponseDto);
+            return mapToResponsePage(appointments);
         } catch (Exception e) {
             log.error("Error fetching patient appointments", e);
             throw new ServiceUnavailable(e.getLocalizedMessage());
         }
     }
 
-    @Cacheable(value = APPOINTMENT_CACHE, key = "{#status, #date, #page, #size, 'doctor'}")
+    @Cacheable(value = APPOINTMENT_PAGES_CACHE, key = "@appointmentCacheKeys.forCurrentUser('doctor', #status, #date, #page, #size)")
     @Transactional(readOnly = true)
     @Override
     public Page<AppointmentResponseDto> getDoctorAppointments(String status, LocalDate date, int page, int size) {
@@ -206,27 +243,79 @@ public class AppointmentServiceImpl implements AppointmentService {
             Pageable pageable = PageRequest.of(page, size, Sort.by("appointmentDate").descending().and(Sort.by("startTime").descending()));
 
             Page<Appointment> appointments = fetchDoctorAppointments(doctorId, AppointmentStatus.valueOf(status.toUpperCase()), date, pageable);
-            return appointments.map(this::mapToResponseDto);
+            return mapToResponsePage(appointments);
         } catch (Exception e) {
             log.error("Error fetching doctor appointments", e);
             throw new ServiceUnavailable(e.getLocalizedMessage());
         }
     }
 
+    @Cacheable(value = APPOINTMENT_PAGES_CACHE, key = "@appointmentCacheKeys.forCurrentUser('patientSlice', #status, #date, #cursor, #page, #size)")
+    @Transactional(readOnly = true)
     @Override
+    public CursorSlice<AppointmentResponseDto> getPatientAppointmentSlice(String status, LocalDate date,
+                                                                          String cursor, int page, int size) {
+        log.debug("Fetching patient appointment slice with status: {}, date: {}, cursor: {}, size: {}", status, date, cursor, size);
+        AppointmentStatus appointmentStatus = parseStatus(status);
+        AppointmentKeyset after = decodeCursor(cursor);
+
+        try {
+            String patientId = UserContextHolder.getUserDetails().getUserId();
+            Slice<Appointment> appointments = appointmentRepository.findPatientAppointmentSlice(
+                    patientId, appointmentStatus, date, after, page, size);
+            return mapToResponseSlice(appointments);
+        } catch (Exception e) {
+            log.error("Error fetching patient appointment slice", e);
+            throw new ServiceUnavailable(e.getLocalizedMessage());
+        }
+    }
+
+    @Cacheable(value = APPOINTMENT_PAGES_CACHE, key = "@appointmentCacheKeys.forCurrentUser('doctorSlice', #status, #date, #cursor, #page, #size)")
     @Transactional(readOnly = true)
-    @Cacheable(value = APPOINTMENT_CACHE, key = "#fromDate")
+    @Override
+    public CursorSlice<AppointmentResponseDto> getDoctorAppointmentSlice(String status, LocalDate date,
+                                                                         String cursor, int page, int size) {
+        log.debug("Fetching doctor appointment slice with status: {}, date: {}, cursor: {}, size: {}", status, date, cursor, size);
+        AppointmentStatus appointmentStatus = parseStatus(status);
+        AppointmentKeyset after = decodeCursor(cursor);
+
+        try {
+            String doctorId = UserContextHolder.getUserDetails().getUserId();
+            Slice<Appointment> appointments = appointmentRepository.findDoctorAppointmentSlice(
+                    doctorId, appointmentStatus, date, after, page, size);
+            return mapToResponseSlice(appointments);
+        } catch (Exception e) {
+            log.error("Error fetching doctor appointment slice", e);
+            throw new ServiceUnavailable(e.getLocalizedMessage());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = UPCOMING_APPOINTMENTS_CACHE, key = "#fromDate")
     public List<AppointmentResponseDto> getUpcomingAppointments(LocalDate fromDate) {
         log.info("Fetching upcoming appointments from date: {}", fromDate);
         List<Appointment> appointments = appointmentRepository.findUpcomingAppointments(fromDate);
-        return appointments.stream()
-                .map(this::mapToResponseDto)
-                .collect(Collectors.toList());
+        return mapToResponseDtos(appointments);
+    }
+
+    @Override
+    public Stream<AppointmentResponseDto> streamDoctorAppointments(String doctorId, LocalDate fromDate,
+                                                                   LocalDate toDate, String status) {
+        log.info("Streaming appointments for doctor {} between {} and {}", doctorId, fromDate, toDate);
+        return mapLazily(appointmentRepository.streamDoctorAppointments(doctorId, fromDate, toDate, parseStatus(status)));
+    }
+
+    @Override
+    public Stream<AppointmentResponseDto> streamPatientAppointments(String patientId, LocalDate fromDate,
+                                                                    LocalDate toDate, String status) {
+        log.info("Streaming appointments for patient {} between {} and {}", patientId, fromDate, toDate);
+        return mapLazily(appointmentRepository.streamPatientAppointments(patientId, fromDate, toDate, parseStatus(status)));
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = APPOINTMENT_CACHE, key = "{#doctorId, #startDate, #endDate}")
+    @Cacheable(value = APPOINTMENT_RANGES_CACHE, key = "@appointmentCacheKeys.forUser(#doctorId, 'doctor', #startDate, #endDate)")
     public List<AppointmentResponseDto> getDoctorAppointmentsBetweenDates(
             String doctorId, LocalDate startDate, LocalDate endDate) {
         log.info("Fetching doctor appointments between {} and {} for doctor {}", startDate, endDate, doctorId);
@@ -234,14 +323,12 @@ public class AppointmentServiceImpl implements AppointmentService {
                 .and(Sort.by("startTime").ascending());
         List<Appointment> appointments = appointmentRepository.findByDoctorIdAndAppointmentDateBetween(
                 doctorId, startDate, endDate, sort);
-        return appointments.stream()
-                .map(this::mapToResponseDto)
-                .collect(Collectors.toList());
+        return mapToResponseDtos(appointments);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = APPOINTMENT_CACHE, key = "{#patientId, #startDate, #endDate}")
+    @Cacheable(value = APPOINTMENT_RANGES_CACHE, key = "@appointmentCacheKeys.forUser(#patientId, 'patient', #startDate, #endDate)")
     public List<AppointmentResponseDto> getPatientAppointmentsBetweenDates(
             String patientId, LocalDate startDate, LocalDate endDate) {
         log.info("Fetching patient appointments between {} and {} for patient {}", startDate, endDate, patientId);
@@ -249,9 +336,7 @@ public class AppointmentServiceImpl implements AppointmentService {
                 .and(Sort.by("startTime").ascending());
         List<Appointment> appointments = appointmentRepository.findByPatientIdAndAppointmentDateBetween(
                 patientId, startDate, endDate, sort);
-        return appointments.stream()
-                .map(this::mapToResponseDto)
-                .collect(Collectors.toList());
+        return mapToResponseDtos(appointments);
     }
 
     private Appointment buildAppointmentFromRequest(AppointmentRequestDto requestDto, String patientId) {
@@ -322,21 +407,110 @@ public class AppointmentServiceImpl implements AppointmentService {
         return appointmentRepository.findByDoctorId(doctorId, pageable);
     }
 
+    private static AppointmentStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return AppointmentStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid appointment status: " + status);
+        }
+    }
+
+    private static AppointmentKeyset decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] keys = KeysetCursor.decode(cursor, 3);
+        try {
+            return new AppointmentKeyset(LocalDate.parse(keys[0]), LocalTime.parse(keys[1]), keys[2]);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+    }
+
     private String generateMeetingLink() {
         return "https://meet.aarogya.com/room/" + UUID.randomUUID();
     }
 
     private AppointmentResponseDto mapToResponseDto(Appointment appointment) {
-        AppointmentResponseDto responseDto = modelMapper.map(appointment, AppointmentResponseDto.class);
+        return mapToResponseDtos(List.of(appointment)).get(0);
+    }
 
-        try {
-            responseDto.setDoctor(authServiceClient.getDoctor(appointment.getDoctorId()));
-            responseDto.setPatientDetails(authServiceClient.getPatient(appointment.getPatientId()));
-        } catch (Exception e) {
-            log.warn("Failed to fetch user details for appointment: {}", appointment.getId(), e);
-            throw e;
+    private Page<AppointmentResponseDto> mapToResponsePage(Page<Appointment> appointments) {
+        return new PageImpl<>(mapToResponseDtos(appointments.getContent()), appointments.getPageable(),
+                appointments.getTotalElements());
+    }
+
+    private CursorSlice<AppointmentResponseDto> mapToResponseSlice(Slice<Appointment> appointments) {
+        String nextCursor = null;
+        if (appointments.hasNext()) {
+            Appointment last = appointments.getContent().get(appointments.getNumberOfElements() - 1);
+            nextCursor = KeysetCursor.encode(last.getAppointmentDate(), last.getStartTime(), last.getId());
+        }
+        return new CursorSlice<>(mapToResponseDtos(appointments.getContent()), appointments.getSize(),
+                appointments.hasNext(), nextCursor);
+    }
+
+    /**
+     * Maps a cursor-backed stream one batch at a time as it is consumed, so only a single batch is held in
+     * memory. Closing the returned stream closes the database cursor.
+     */
+    private Stream<AppointmentResponseDto> mapLazily(Stream<Appointment> appointments) {
+        Iterator<Appointment> source = appointments.iterator();
+        Iterator<List<Appointment>> batches = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public List<Appointment> next() {
+                if (!source.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<Appointment> batch = new ArrayList<>(EXPORT_BATCH_SIZE);
+                while (batch.size() < EXPORT_BATCH_SIZE && source.hasNext()) {
+                    batch.add(source.next());
+                }
+                return batch;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED), false)
+                .flatMap(batch -> mapToResponseDtos(batch).stream())
+                .onClose(appointments::close);
+    }
+
+    /**
+     * Maps a batch of appointments, resolving the distinct doctors and patients they reference in one
+     * round trip to auth-service instead of two calls per appointment.
+     */
+    private List<AppointmentResponseDto> mapToResponseDtos(List<Appointment> appointments) {
+        if (appointments.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        return responseDto;
+        Set<String> doctorIds = appointments.stream()
+                .map(Appointment::getDoctorId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> patientIds = appointments.stream()
+                .map(Appointment::getPatientId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        UserGrpcClient.UserProfiles profiles = authServiceClient.getProfiles(doctorIds, patientIds);
+
+        List<AppointmentResponseDto> responseDtos = new ArrayList<>(appointments.size());
+        for (Appointment appointment : appointments) {
+            AppointmentResponseDto responseDto = modelMapper.map(appointment, AppointmentResponseDto.class);
+            responseDto.setDoctor(profiles.doctors().get(appointment.getDoctorId()));
+            responseDto.setPatientDetails(profiles.patients().get(appointment.getPatientId()));
+            if (responseDto.getDoctor() == null || responseDto.getPatientDetails() == null) {
+                log.warn("Missing user details for appointment: {}", appointment.getId());
+            }
+            responseDtos.add(responseDto);
+        }
+        return responseDtos;
     }
 }
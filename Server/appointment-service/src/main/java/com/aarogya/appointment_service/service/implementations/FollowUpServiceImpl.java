@@ -3,7 +3,9 @@ package com.aarogya.appointment_service.service.implementations;
 import com.aarogya.appointment_service.auth.UserContextHolder;
 import com.aarogya.appointment_service.dto.request.FollowUpRequestDto;
 import com.aarogya.appointment_service.dto.response.AppointmentResponseDto;
+import com.aarogya.appointment_service.dto.response.CursorSlice;
 import com.aarogya.appointment_service.dto.response.FollowUpResponseDto;
+import com.aarogya.appointment_service.exceptions.BadRequestException;
 import com.aarogya.appointment_service.exceptions.IllegalState;
 import com.aarogya.appointment_service.exceptions.ResourceNotFound;
 import com.aarogya.appointment_service.exceptions.ServiceUnavailable;
@@ -12,9 +14,11 @@ import com.aarogya.appointment_service.models.FollowUp;
 import com.aarogya.appointment_service.models.enums.FollowUpStatus;
 import com.aarogya.appointment_service.repository.AppointmentRepository;
 import com.aarogya.appointment_service.repository.FollowUpRepository;
+import com.aarogya.appointment_service.repository.FollowUpRepositoryCustom.FollowUpKeyset;
 import com.aarogya.appointment_service.service.FollowUpService;
 import com.aarogya.appointment_service.service.NotificationService;
 import com.aarogya.appointment_service.utils.FollowUpValidator;
+import com.aarogya.appointment_service.utils.KeysetCursor;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
 import jakarta.validation.ValidationException;
@@ -30,6 +34,7 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -38,6 +43,7 @@ import org.springframework.validation.annotation.Validated;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -114,6 +120,38 @@ public class FollowUpServiceImpl implements FollowUpService {
         }
     }
 
+    @Override
+    @Cacheable(value = FOLLOW_UP_CACHE, key = "@appointmentCacheKeys.forCurrentUser('slice', #status, #cursor, #page, #size)")
+    @Transactional(readOnly = true)
+    public CursorSlice<FollowUpResponseDto> getFollowUpSlice(String status, String cursor, int page, int size) {
+        log.info("Getting follow-up slice with status: {}, cursor: {}, size: {}", status, cursor, size);
+        FollowUpStatus followUpStatus = parseStatus(status);
+        FollowUpKeyset after = decodeCursor(cursor);
+
+        try {
+            String userId = UserContextHolder.getUserDetails().getUserId();
+            String userRole = UserContextHolder.getUserDetails().getRole();
+            Slice<FollowUp> followUps = followUpRepository.findFollowUpSlice(
+                    DOCTOR_ROLE.equals(userRole) ? userId : null,
+                    PATIENT_ROLE.equals(userRole) ? userId : null,
+                    followUpStatus, after, page, size);
+
+            String nextCursor = null;
+            if (followUps.hasNext()) {
+                FollowUp last = followUps.getContent().get(followUps.getNumberOfElements() - 1);
+                nextCursor = KeysetCursor.encode(last.getRecommendedDate(), last.getId());
+            }
+            List<FollowUpResponseDto> content = followUps.getContent().stream()
+                    .map(this::mapToResponseDto)
+                    .collect(Collectors.toList());
+            return new CursorSlice<>(content, followUps.getSize(), followUps.hasNext(), nextCursor);
+
+        } catch (Exception e) {
+            log.error("Error fetching follow-up slice", e);
+            throw new ServiceUnavailable(e.getLocalizedMessage());
+        }
+    }
+
     @Override
     @Cacheable(value = FOLLOW_UP_CACHE, key = "{#status, #startDate, #endDate, #page, #size, #userRole}")
     @Transactional(readOnly = true)
@@ -326,6 +364,29 @@ public class FollowUpServiceImpl implements FollowUpService {
                 : followUpRepository.findByRecommendedDateBetween(startDate, endDate, pageable);
     }
 
+    private static FollowUpStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return FollowUpStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid follow-up status: " + status);
+        }
+    }
+
+    private static FollowUpKeyset decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] keys = KeysetCursor.decode(cursor, 2);
+        try {
+            return new FollowUpKeyset(LocalDate.parse(keys[0]), keys[1]);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+    }
+
     private FollowUp fetchFollowUpForUpdate(String followUpId, String userId, String userRole) {
         if (DOCTOR_ROLE.equals(userRole)) {
             return followUpRepository.findByIdAndDoctorId(followUpId, userId)
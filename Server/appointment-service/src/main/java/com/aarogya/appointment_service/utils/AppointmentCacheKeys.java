@@ -0,0 +1,54 @@
+package com.aarogya.appointment_service.utils;
+
+import com.aarogya.appointment_service.auth.UserContextHolder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds the keys of the per-user appointment caches and invalidates them per user.
+ *
+ * <p>Every key carries the user's current generation. A write bumps the generation of the doctor and the
+ * patient it touches, so their old entries are never read again and age out through the cache TTL, while
+ * every other user's entries stay warm. Generations come from one global counter and never repeat, even
+ * after a user's generation has expired here.
+ */
+@Component("appointmentCacheKeys")
+public class AppointmentCacheKeys {
+
+    private final AtomicLong generationCounter = new AtomicLong();
+    private final Cache<String, Long> generations;
+
+    public AppointmentCacheKeys(@Value("${appointment.cache-keys.generation-ttl:6h}") Duration generationTtl) {
+        // Must outlive the longest TTL of the caches using these keys
+        this.generations = Caffeine.newBuilder()
+                .expireAfterAccess(generationTtl)
+                .build();
+    }
+
+    public UserScopedKey forCurrentUser(Object... parts) {
+        return forUser(UserContextHolder.getUserDetails().getUserId(), parts);
+    }
+
+    public UserScopedKey forUser(String userId, Object... parts) {
+        long generation = generations.get(userId, id -> generationCounter.incrementAndGet());
+        return new UserScopedKey(userId, generation, Arrays.asList(parts));
+    }
+
+    public void invalidate(String... userIds) {
+        for (String userId : userIds) {
+            if (userId != null) {
+                generations.put(userId, generationCounter.incrementAndGet());
+            }
+        }
+    }
+
+    public record UserScopedKey(String userId, long generation, List<Object> parts) {
+    }
+}
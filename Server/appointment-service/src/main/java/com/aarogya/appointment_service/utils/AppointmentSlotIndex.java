@@ -0,0 +1,131 @@
+package com.aarogya.appointment_service.utils;
+
+import com.aarogya.appointment_service.models.Appointment;
+import com.aarogya.appointment_service.models.enums.AppointmentStatus;
+import com.aarogya.appointment_service.repository.AppointmentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * In-memory view of the booked slots of each doctor per day, so that conflict checks do not have to run
+ * the range query against MongoDB. A day is loaded the first time it is checked and kept current through
+ * {@link #record(Appointment)}. Bookings made by other instances only show up once the day is reloaded,
+ * which is why a slot reported as free is still confirmed against the database.
+ */
+@Component
+public class AppointmentSlotIndex {
+
+    // Must match the statuses in AppointmentRepository#findConflictingAppointments
+    private static final Set<AppointmentStatus> BLOCKING_STATUSES = Set.of(AppointmentStatus.PENDING, AppointmentStatus.APPROVED);
+
+    private final AppointmentRepository appointmentRepository;
+    private final Cache<DoctorDay, DaySchedule> days;
+
+    public AppointmentSlotIndex(AppointmentRepository appointmentRepository,
+                                @Value("${appointment.slot-index.maximum-size:10000}") long maximumSize,
+                                @Value("${appointment.slot-index.reload-after:2m}") Duration reloadAfter,
+                                MeterRegistry meterRegistry) {
+        this.appointmentRepository = appointmentRepository;
+        this.days = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(reloadAfter)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, days, "appointmentSlots");
+    }
+
+    public boolean hasConflict(String doctorId, LocalDate date, LocalTime startTime, LocalTime endTime,
+                               String excludeAppointmentId) {
+        return days.get(new DoctorDay(doctorId, date), this::load)
+                .overlaps(startTime, endTime, excludeAppointmentId);
+    }
+
+    /**
+     * Applies a saved appointment to its day if that day is loaded. Days that are not loaded are read
+     * fresh from the database on their next check, so there is nothing to update.
+     */
+    public void record(Appointment appointment) {
+        DaySchedule schedule = days.getIfPresent(new DoctorDay(appointment.getDoctorId(), appointment.getAppointmentDate()));
+        if (schedule == null) {
+            return;
+        }
+        schedule.remove(appointment.getId());
+        if (BLOCKING_STATUSES.contains(appointment.getStatus())) {
+            schedule.add(new Slot(appointment.getId(), appointment.getStartTime(), appointment.getEndTime()));
+        }
+    }
+
+    public void invalidate(String doctorId, LocalDate date) {
+        days.invalidate(new DoctorDay(doctorId, date));
+    }
+
+    private DaySchedule load(DoctorDay day) {
+        DaySchedule schedule = new DaySchedule();
+        for (Appointment appointment : appointmentRepository.findBookedSlots(day.doctorId(), day.date())) {
+            schedule.add(new Slot(appointment.getId(), appointment.getStartTime(), appointment.getEndTime()));
+        }
+        return schedule;
+    }
+
+    private record DoctorDay(String doctorId, LocalDate date) {
+    }
+
+    private record Slot(String appointmentId, LocalTime startTime, LocalTime endTime) {
+
+        static final Comparator<Slot> ORDER = Comparator.comparing(Slot::startTime)
+                .thenComparing(Slot::appointmentId);
+    }
+
+    /**
+     * Slots of one doctor-day ordered by start time. Regular bookings never overlap, so the only slot that
+     * can collide with a new one is the last one starting before it ends, found in O(log n). Emergency
+     * appointments skip validation and may overlap others; once that happens the day falls back to scanning
+     * the slots starting before the requested end until it is reloaded.
+     */
+    private static final class DaySchedule {
+
+        private final TreeSet<Slot> slots = new TreeSet<>(Slot.ORDER);
+        private boolean disjoint = true;
+
+        synchronized boolean overlaps(LocalTime startTime, LocalTime endTime, String excludeAppointmentId) {
+            // An empty id sorts before every real one, so this excludes exactly the slots starting at endTime or later
+            Iterator<Slot> candidates = slots.headSet(new Slot("", endTime, endTime), false).descendingIterator();
+            while (candidates.hasNext()) {
+                Slot slot = candidates.next();
+                if (slot.appointmentId().equals(excludeAppointmentId)) {
+                    continue;
+                }
+                if (slot.endTime().isAfter(startTime)) {
+                    return true;
+                }
+                if (disjoint) {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        synchronized void add(Slot slot) {
+            if (disjoint && overlaps(slot.startTime(), slot.endTime(), slot.appointmentId())) {
+                disjoint = false;
+            }
+            slots.add(slot);
+        }
+
+        synchronized void remove(String appointmentId) {
+            slots.removeIf(slot -> slot.appointmentId().equals(appointmentId));
+        }
+    }
+}
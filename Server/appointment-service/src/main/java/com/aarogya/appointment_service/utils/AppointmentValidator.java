@@ -5,6 +5,7 @@ import com.aarogya.appointment_service.exceptions.TimeSlotNotAvailableException;
 import com.aarogya.appointment_service.models.Appointment;
 import com.aarogya.appointment_service.repository.AppointmentRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
@@ -13,9 +14,11 @@ import java.util.List;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class AppointmentValidator {
 
     private final AppointmentRepository appointmentRepository;
+    private final AppointmentSlotIndex appointmentSlotIndex;
 
     public void validateAppointmentRequest(AppointmentRequestDto requestDto, String excludeAppointmentId) {
         if (!isTimeSlotAvailable(requestDto.getDoctorId(), requestDto.getAppointmentDate(),
@@ -30,8 +33,18 @@ public class AppointmentValidator {
             throw new IllegalArgumentException("Start time must be before end time");
         }
 
+        // Taken slots are rejected from memory; only a slot that looks free costs a database round trip
+        if (appointmentSlotIndex.hasConflict(doctorId, date, startTime, endTime, excludeAppointmentId)) {
+            return false;
+        }
+
         List<Appointment> conflictingAppointments = appointmentRepository.findConflictingAppointments(
                 doctorId, date, startTime, endTime, excludeAppointmentId);
-        return conflictingAppointments.isEmpty();
+        if (!conflictingAppointments.isEmpty()) {
+            log.debug("Slot index for doctor {} on {} is stale, reloading", doctorId, date);
+            appointmentSlotIndex.invalidate(doctorId, date);
+            return false;
+        }
+        return true;
     }
 }
@@ -0,0 +1,261 @@
+package com.aarogya.appointment_service.utils;
+
+import com.aarogya.appointment_service.Clients.UserGrpcClient;
+import com.aarogya.appointment_service.exceptions.BadRequestException;
+import com.aarogya.appointment_service.exceptions.ResourceNotFound;
+import com.aarogya.appointment_service.models.Appointment;
+import com.aarogya.appointment_service.models.DoctorAvailability;
+import com.aarogya.appointment_service.models.enums.AppointmentStatus;
+import com.aarogya.appointment_service.models.enums.AppointmentType;
+import com.aarogya.appointment_service.repository.AppointmentRepository;
+import com.aarogya.appointment_service.repository.DoctorAvailabilityRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Picks the doctor for an emergency appointment. For every specialization it keeps the day's pool of doctors
+ * from auth-service, ordered by how many open appointments they have that day, next to their shift from
+ * doctor-service's availability. A claim walks the pool from the least-loaded doctor and normally stops at the
+ * first one, so it costs O(log n). Claims on a pool are serialized and raise the doctor's load and emergency
+ * cover before the lock is released, so concurrent emergencies never get the same doctor for the same window.
+ * Pools are rebuilt after {@code appointment.emergency.pool-ttl} to pick up roster and schedule changes and
+ * emergencies taken by other instances.
+ */
+@Component
+@Slf4j
+public class EmergencyDoctorDispatcher {
+
+    // The statuses AppointmentRepository#findOpenAppointmentDoctors counts towards a doctor's load
+    private static final Set<AppointmentStatus> OPEN_STATUSES =
+            EnumSet.of(AppointmentStatus.PENDING, AppointmentStatus.APPROVED, AppointmentStatus.IN_PROGRESS);
+
+    private final UserGrpcClient userGrpcClient;
+    private final AppointmentRepository appointmentRepository;
+    private final DoctorAvailabilityRepository doctorAvailabilityRepository;
+    private final AppointmentSlotIndex appointmentSlotIndex;
+    private final String defaultSpecialization;
+    private final Cache<PoolKey, DoctorPool> pools;
+
+    public EmergencyDoctorDispatcher(UserGrpcClient userGrpcClient,
+                                     AppointmentRepository appointmentRepository,
+                                     DoctorAvailabilityRepository doctorAvailabilityRepository,
+                                     AppointmentSlotIndex appointmentSlotIndex,
+                                     @Value("${appointment.emergency.default-specialization:EMERGENCY_MEDICINE}") String defaultSpecialization,
+                                     @Value("${appointment.emergency.pool-ttl:5m}") Duration poolTtl,
+                                     MeterRegistry meterRegistry) {
+        this.userGrpcClient = userGrpcClient;
+        this.appointmentRepository = appointmentRepository;
+        this.doctorAvailabilityRepository = doctorAvailabilityRepository;
+        this.appointmentSlotIndex = appointmentSlotIndex;
+        this.defaultSpecialization = normalize(defaultSpecialization);
+        this.pools = Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(poolTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pools, "emergencyDoctorPools");
+    }
+
+    /**
+     * Claims a doctor of the preferred specialization for the window, falling back to the default emergency
+     * specialization when none is free. The claim must be {@link #release(Claim) released} if the appointment
+     * is not saved.
+     */
+    public Claim claim(String preferredSpecialization, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        String specialization = preferredSpecialization == null || preferredSpecialization.isBlank()
+                ? defaultSpecialization
+                : normalize(preferredSpecialization);
+
+        Claim claim = claimFrom(specialization, date, startTime, endTime);
+        if (claim == null && !specialization.equals(defaultSpecialization)) {
+            log.info("No {} doctor free for emergency, falling back to {}", specialization, defaultSpecialization);
+            claim = claimFrom(defaultSpecialization, date, startTime, endTime);
+        }
+        if (claim == null) {
+            throw new ResourceNotFound("No available doctor found for emergency");
+        }
+        return claim;
+    }
+
+    public void release(Claim claim) {
+        claim.pool.release(claim.doctorId, claim.previousCoverUntil);
+    }
+
+    /**
+     * Hands back the load and cover of an emergency that was cancelled, completed or otherwise closed, so the
+     * doctor is offered again before the pools are next rebuilt.
+     */
+    public void statusChanged(Appointment appointment, AppointmentStatus previousStatus) {
+        if (appointment.getType() != AppointmentType.EMERGENCY
+                || !OPEN_STATUSES.contains(previousStatus)
+                || OPEN_STATUSES.contains(appointment.getStatus())) {
+            return;
+        }
+        pools.asMap().forEach((key, pool) -> {
+            if (key.date().equals(appointment.getAppointmentDate())) {
+                pool.close(appointment.getDoctorId(), appointment.getEndTime());
+            }
+        });
+    }
+
+    private Claim claimFrom(String specialization, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        DoctorPool pool = pools.get(new PoolKey(specialization, date), this::load);
+        return pool.claim(startTime, endTime,
+                doctorId -> appointmentSlotIndex.hasConflict(doctorId, date, startTime, endTime, null));
+    }
+
+    private DoctorPool load(PoolKey key) {
+        DoctorPool pool = new DoctorPool();
+        List<String> doctorIds;
+        try {
+            doctorIds = userGrpcClient.getDoctorIdsBySpecialization(key.specialization());
+        } catch (BadRequestException e) {
+            // An unknown specialization has nobody to offer; an empty pool lets claim() fall back to the default
+            log.warn("Auth service rejected specialization {} for emergencies: {}", key.specialization(), e.getMessage());
+            return pool;
+        }
+        if (doctorIds.isEmpty()) {
+            return pool;
+        }
+
+        Map<String, Integer> loads = new HashMap<>();
+        Map<String, LocalTime> coverUntil = new HashMap<>();
+        for (Appointment appointment : appointmentRepository.findOpenAppointmentDoctors(doctorIds, key.date())) {
+            loads.merge(appointment.getDoctorId(), 1, Integer::sum);
+            if (appointment.getType() == AppointmentType.EMERGENCY && appointment.getEndTime() != null) {
+                coverUntil.merge(appointment.getDoctorId(), appointment.getEndTime(),
+                        (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+            }
+        }
+
+        // Same numbering doctor-service stores: 0 = Sunday ... 6 = Saturday
+        int dayOfWeek = key.date().getDayOfWeek().getValue() % 7;
+        for (DoctorAvailability shift : doctorAvailabilityRepository.findByDoctorIdInAndDayOfWeek(doctorIds, dayOfWeek)) {
+            pool.shifts.put(shift.getDoctorId(), shift);
+        }
+
+        for (String doctorId : doctorIds) {
+            pool.add(new DoctorLoad(doctorId, loads.getOrDefault(doctorId, 0), coverUntil.get(doctorId)));
+        }
+        log.debug("Loaded {} {} doctors for emergencies on {}", doctorIds.size(), key.specialization(), key.date());
+        return pool;
+    }
+
+    // Matches the Specialization enum names auth-service expects, e.g. "internal medicine" -> INTERNAL_MEDICINE
+    private static String normalize(String specialization) {
+        return specialization.trim().toUpperCase(Locale.ROOT).replace(' ', '_');
+    }
+
+    public static final class Claim {
+
+        private final DoctorPool pool;
+        private final String doctorId;
+        private final LocalTime previousCoverUntil;
+
+        private Claim(DoctorPool pool, String doctorId, LocalTime previousCoverUntil) {
+            this.pool = pool;
+            this.doctorId = doctorId;
+            this.previousCoverUntil = previousCoverUntil;
+        }
+
+        public String doctorId() {
+            return doctorId;
+        }
+    }
+
+    private record PoolKey(String specialization, LocalDate date) {
+    }
+
+    private record DoctorLoad(String doctorId, int load, LocalTime coverUntil) {
+
+        static final Comparator<DoctorLoad> ORDER = Comparator.comparingInt(DoctorLoad::load)
+                .thenComparing(DoctorLoad::doctorId);
+
+        boolean coversEmergencyAt(LocalTime time) {
+            return coverUntil != null && coverUntil.isAfter(time);
+        }
+    }
+
+    /**
+     * Doctors of one specialization and day. A doctor already covering an emergency is skipped outright;
+     * one with a regular booking in the window is only taken when nobody on shift is free.
+     */
+    private static final class DoctorPool {
+
+        private final TreeSet<DoctorLoad> byLoad = new TreeSet<>(DoctorLoad.ORDER);
+        private final Map<String, DoctorLoad> byDoctor = new HashMap<>();
+        // Doctors without a schedule for the day have not configured one and count as available
+        private final Map<String, DoctorAvailability> shifts = new HashMap<>();
+
+        synchronized Claim claim(LocalTime startTime, LocalTime endTime, Predicate<String> isBooked) {
+            DoctorLoad fallback = null;
+            for (DoctorLoad candidate : byLoad) {
+                if (candidate.coversEmergencyAt(startTime) || !isOnShift(candidate.doctorId(), startTime)) {
+                    continue;
+                }
+                if (!isBooked.test(candidate.doctorId())) {
+                    return take(candidate, endTime);
+                }
+                if (fallback == null) {
+                    fallback = candidate;
+                }
+            }
+            return fallback == null ? null : take(fallback, endTime);
+        }
+
+        synchronized void release(String doctorId, LocalTime previousCoverUntil) {
+            DoctorLoad current = byDoctor.get(doctorId);
+            if (current != null) {
+                replace(current, new DoctorLoad(doctorId, Math.max(0, current.load() - 1), previousCoverUntil));
+            }
+        }
+
+        // Only the cover that ended with this emergency is dropped. An earlier emergency the doctor still
+        // covers is in AppointmentSlotIndex, so claim() treats them as booked rather than free.
+        synchronized void close(String doctorId, LocalTime endTime) {
+            DoctorLoad current = byDoctor.get(doctorId);
+            if (current != null) {
+                LocalTime coverUntil = endTime != null && endTime.equals(current.coverUntil()) ? null : current.coverUntil();
+                replace(current, new DoctorLoad(doctorId, Math.max(0, current.load() - 1), coverUntil));
+            }
+        }
+
+        void add(DoctorLoad doctor) {
+            byLoad.add(doctor);
+            byDoctor.put(doctor.doctorId(), doctor);
+        }
+
+        private Claim take(DoctorLoad doctor, LocalTime endTime) {
+            replace(doctor, new DoctorLoad(doctor.doctorId(), doctor.load() + 1, endTime));
+            return new Claim(this, doctor.doctorId(), doctor.coverUntil());
+        }
+
+        private void replace(DoctorLoad current, DoctorLoad updated) {
+            byLoad.remove(current);
+            add(updated);
+        }
+
+        private boolean isOnShift(String doctorId, LocalTime time) {
+            DoctorAvailability shift = shifts.get(doctorId);
+            return shift == null || shift.covers(time);
+        }
+    }
+}
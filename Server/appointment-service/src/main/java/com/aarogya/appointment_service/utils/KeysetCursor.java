@@ -0,0 +1,41 @@
+package com.aarogya.appointment_service.utils;
+
+import com.aarogya.appointment_service.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Opaque cursor for keyset pagination: the sort key values of the last row of a slice, base64url encoded so
+ * that clients hand it back unchanged instead of building it themselves.
+ */
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Object... values) {
+        String joined = Arrays.stream(values)
+                .map(String::valueOf)
+                .collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedValues) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(Pattern.quote(SEPARATOR), -1);
+            if (values.length == expectedValues) {
+                return values;
+            }
+        } catch (IllegalArgumentException e) {
+            // Not base64; reported below like any other malformed cursor
+        }
+        throw new BadRequestException("Invalid pagination cursor");
+    }
+}
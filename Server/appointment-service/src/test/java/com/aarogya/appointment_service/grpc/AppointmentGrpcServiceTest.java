@@ -0,0 +1,76 @@
+package com.aarogya.appointment_service.grpc;
+
+import appointment.Appointment;
+import com.aarogya.appointment_service.Clients.UserGrpcClient;
+import com.aarogya.appointment_service.mapper.AppointmentProtoMapper;
+import com.aarogya.appointment_service.repository.AppointmentRepository;
+import com.aarogya.appointment_service.service.NotificationService;
+import com.aarogya.appointment_service.service.implementations.AppointmentServiceImpl;
+import com.aarogya.appointment_service.utils.AppointmentCacheKeys;
+import com.aarogya.appointment_service.utils.AppointmentSlotIndex;
+import com.aarogya.appointment_service.utils.AppointmentValidator;
+import com.aarogya.appointment_service.utils.EmergencyDoctorDispatcher;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class AppointmentGrpcServiceTest {
+
+    private final AppointmentRepository appointmentRepository = mock(AppointmentRepository.class);
+    private final AppointmentGrpcService appointmentGrpcService = new AppointmentGrpcService(
+            new AppointmentServiceImpl(appointmentRepository, mock(UserGrpcClient.class), new ModelMapper(),
+                    mock(NotificationService.class), mock(AppointmentValidator.class),
+                    mock(AppointmentSlotIndex.class), mock(AppointmentCacheKeys.class),
+                    mock(EmergencyDoctorDispatcher.class)),
+            new AppointmentProtoMapper());
+
+    @Test
+    void unknownStatusInADoctorStreamIsInvalidArgument() {
+        RecordingObserver observer = new RecordingObserver();
+
+        appointmentGrpcService.streamDoctorAppointments(Appointment.AppointmentStreamRequest.newBuilder()
+                .setUserId("doctor-1")
+                .setStatus("BOOKED")
+                .build(), observer);
+
+        assertThat(observer.status.getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+        assertThat(observer.status.getDescription()).isEqualTo("Invalid appointment status: BOOKED");
+        verifyNoInteractions(appointmentRepository);
+    }
+
+    @Test
+    void unknownStatusInAPatientStreamIsInvalidArgument() {
+        RecordingObserver observer = new RecordingObserver();
+
+        appointmentGrpcService.streamPatientAppointments(Appointment.AppointmentStreamRequest.newBuilder()
+                .setUserId("patient-1")
+                .setStatus("done")
+                .build(), observer);
+
+        assertThat(observer.status.getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+        verifyNoInteractions(appointmentRepository);
+    }
+
+    private static class RecordingObserver implements StreamObserver<Appointment.AppointmentResponseDto> {
+
+        private Status status;
+
+        @Override
+        public void onNext(Appointment.AppointmentResponseDto value) {
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            status = Status.fromThrowable(t);
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+    }
+}
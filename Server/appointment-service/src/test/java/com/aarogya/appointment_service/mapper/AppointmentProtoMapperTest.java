@@ -0,0 +1,314 @@
+package com.aarogya.appointment_service.mapper;
+
+import appointment.Appointment;
+import com.aarogya.appointment_service.dto.response.AppointmentResponseDto;
+import com.aarogya.appointment_service.dto.response.DoctorResponseDTO;
+import com.aarogya.appointment_service.dto.response.PatientResponseDTO;
+import com.aarogya.appointment_service.models.enums.AppointmentStatus;
+import com.aarogya.appointment_service.models.enums.AppointmentType;
+import com.aarogya.grpc_common.ProtoTimestamps;
+import com.google.protobuf.TextFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins what appointment-service puts on the wire. prescription-service keeps a copy of the fixture and its
+ * AppointmentProtoMapperTest maps it back, expecting the DTO built by {@link #fullAppointment()}.
+ */
+class AppointmentProtoMapperTest {
+
+    static final String FIXTURE = "/proto/appointment_response.textproto";
+    // Not UTC, so a mapper that ignored the system zone would be caught
+    static final ZoneId ZONE = ZoneId.of("Asia/Kolkata");
+
+    private final AppointmentProtoMapper mapper = new AppointmentProtoMapper();
+    private TimeZone defaultTimeZone;
+
+    @BeforeEach
+    void pinTimeZone() {
+        defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone(ZONE));
+    }
+
+    @AfterEach
+    void restoreTimeZone() {
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    @Test
+    void fullAppointmentMatchesTheWireFixture() throws Exception {
+        Appointment.AppointmentResponseDto proto = mapper.toProto(fullAppointment());
+
+        assertThat(proto).isEqualTo(readFixture());
+        assertThat(Appointment.AppointmentResponseDto.parseFrom(proto.toByteArray())).isEqualTo(proto);
+    }
+
+    @Test
+    void datesTravelAsTheStartOfDayInTheSystemZone() {
+        Appointment.AppointmentResponseDto proto = mapper.toProto(fullAppointment());
+
+        assertThat(proto.getAppointmentDate().getSeconds())
+                .isEqualTo(LocalDate.of(2026, 3, 14).atStartOfDay(ZONE).toEpochSecond());
+        assertThat(proto.getPatientDetails().getDateOfBirth().getSeconds())
+                .isEqualTo(LocalDate.of(1990, 7, 21).atStartOfDay(ZONE).toEpochSecond());
+        assertThat(proto.getUpdatedAt().getSeconds())
+                .isEqualTo(LocalDateTime.of(2026, 3, 2, 18, 45).atZone(ZONE).toEpochSecond());
+        assertThat(proto.getUpdatedAt().getNanos()).isEqualTo(250_000_000);
+
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        long utcSeconds = mapper.toProto(fullAppointment()).getAppointmentDate().getSeconds();
+        assertThat(utcSeconds - proto.getAppointmentDate().getSeconds()).isEqualTo(19_800);
+    }
+
+    @Test
+    void unsetFieldsStayAtProtoDefaults() {
+        AppointmentResponseDto dto = new AppointmentResponseDto();
+        dto.setId("6650a1f2c4e8b91d2f3a7c10");
+
+        Appointment.AppointmentResponseDto proto = mapper.toProto(dto);
+
+        assertThat(proto.getId()).isEqualTo("6650a1f2c4e8b91d2f3a7c10");
+        assertThat(proto.hasAppointmentDate()).isFalse();
+        assertThat(proto.hasCreatedAt()).isFalse();
+        assertThat(proto.hasUpdatedAt()).isFalse();
+        assertThat(proto.hasDoctor()).isFalse();
+        assertThat(proto.hasPatientDetails()).isFalse();
+        assertThat(proto.getStartTime()).isEmpty();
+        assertThat(proto.getSymptomsList()).isEmpty();
+        assertThat(proto.getIsVirtual()).isFalse();
+        // proto3 has no null enum; an unset status reads as the zero value
+        assertThat(proto.getStatus()).isEqualTo(Appointment.AppointmentStatus.PENDING);
+        assertThat(proto.getType()).isEqualTo(Appointment.AppointmentType.REGULAR);
+    }
+
+    @Test
+    void unsetNestedFieldsStayAtProtoDefaults() {
+        AppointmentResponseDto dto = new AppointmentResponseDto();
+        dto.setDoctor(DoctorResponseDTO.builder().id("d-1").build());
+        dto.setPatientDetails(PatientResponseDTO.builder().id("p-1").build());
+
+        Appointment.AppointmentResponseDto proto = mapper.toProto(dto);
+
+        assertThat(proto.getDoctor()).isEqualTo(Appointment.DoctorResponseDTO.newBuilder().setId("d-1").build());
+        assertThat(proto.getPatientDetails())
+                .isEqualTo(Appointment.PatientResponseDTO.newBuilder().setId("p-1").build());
+    }
+
+    @Test
+    void everyEnumValueMapsByName() {
+        AppointmentResponseDto dto = new AppointmentResponseDto();
+        for (AppointmentStatus status : AppointmentStatus.values()) {
+            dto.setStatus(status);
+            assertThat(mapper.toProto(dto).getStatus().name()).isEqualTo(status.name());
+        }
+        for (AppointmentType type : AppointmentType.values()) {
+            dto.setType(type);
+            assertThat(mapper.toProto(dto).getType().name()).isEqualTo(type.name());
+        }
+    }
+
+    @Test
+    void generatedAppointmentsReadBackUnchanged() throws Exception {
+        Random random = new Random(20260314L);
+        for (int i = 0; i < 500; i++) {
+            AppointmentResponseDto dto = randomAppointment(random);
+
+            byte[] wire = mapper.toProto(dto).toByteArray();
+
+            assertThat(readBack(Appointment.AppointmentResponseDto.parseFrom(wire))).isEqualTo(dto);
+        }
+    }
+
+    static AppointmentResponseDto fullAppointment() {
+        DoctorResponseDTO doctor = DoctorResponseDTO.builder()
+                .id("664f0c2ab1d34e5f6a7b8c91")
+                .email("anita.rao@aarogya.in")
+                .firstName("Anita")
+                .lastName("Rao")
+                .specialization("Pulmonology")
+                .licenseNumber("KMC-48213")
+                .experienceYears(12)
+                .phone("+91 98450 12345")
+                .address("12 MG Road, Bengaluru")
+                .imageUrl("https://cdn.aarogya.in/doctors/anita-rao.png")
+                .createdAt(LocalDateTime.of(2025, 11, 5, 8, 0))
+                .build();
+        PatientResponseDTO patient = PatientResponseDTO.builder()
+                .id("664f0d7eb1d34e5f6a7b8ca2")
+                .email("ravi.kumar@example.com")
+                .firstName("Ravi")
+                .lastName("Kumar")
+                .dateOfBirth(LocalDate.of(1990, 7, 21))
+                .gender("MALE")
+                .bloodGroup("B+")
+                .phone("+91 99000 54321")
+                .address("4 Residency Road, Bengaluru")
+                .imageUrl("https://cdn.aarogya.in/patients/ravi-kumar.png")
+                .emergencyContact("Sita Kumar")
+                .emergencyPhone("+91 99000 11111")
+                .createdAt(LocalDateTime.of(2026, 1, 10, 20, 30, 15))
+                .build();
+        return new AppointmentResponseDto(
+                "6650a1f2c4e8b91d2f3a7c10",
+                LocalDate.of(2026, 3, 14),
+                LocalTime.of(10, 30),
+                LocalTime.of(11, 0),
+                AppointmentStatus.APPROVED,
+                AppointmentType.VIRTUAL,
+                "Persistent cough",
+                List.of("cough", "mild fever"),
+                "Prefers a morning slot",
+                "Order a chest X-ray",
+                2,
+                "https://meet.aarogya.in/6650a1f2",
+                true,
+                null,
+                LocalDateTime.of(2026, 3, 1, 9, 15, 30),
+                LocalDateTime.of(2026, 3, 2, 18, 45, 0, 250_000_000),
+                doctor,
+                patient);
+    }
+
+    private static AppointmentResponseDto randomAppointment(Random random) {
+        DoctorResponseDTO doctor = DoctorResponseDTO.builder()
+                .id(randomString(random))
+                .email(randomString(random))
+                .firstName(randomString(random))
+                .lastName(randomString(random))
+                .specialization(randomString(random))
+                .licenseNumber(randomString(random))
+                .experienceYears(random.nextInt())
+                .phone(randomString(random))
+                .address(randomString(random))
+                .imageUrl(randomString(random))
+                .createdAt(randomDateTime(random))
+                .build();
+        PatientResponseDTO patient = PatientResponseDTO.builder()
+                .id(randomString(random))
+                .email(randomString(random))
+                .firstName(randomString(random))
+                .lastName(randomString(random))
+                .dateOfBirth(randomDateTime(random).toLocalDate())
+                .gender(randomString(random))
+                .bloodGroup(randomString(random))
+                .phone(randomString(random))
+                .address(randomString(random))
+                .imageUrl(randomString(random))
+                .emergencyContact(randomString(random))
+                .emergencyPhone(randomString(random))
+                .createdAt(randomDateTime(random))
+                .build();
+        return new AppointmentResponseDto(
+                randomString(random),
+                randomDateTime(random).toLocalDate(),
+                randomDateTime(random).toLocalTime(),
+                randomDateTime(random).toLocalTime(),
+                AppointmentStatus.values()[random.nextInt(AppointmentStatus.values().length)],
+                AppointmentType.values()[random.nextInt(AppointmentType.values().length)],
+                randomString(random),
+                IntStream.range(0, random.nextInt(4)).mapToObj(n -> randomString(random)).toList(),
+                randomString(random),
+                randomString(random),
+                random.nextInt(),
+                randomString(random),
+                random.nextBoolean(),
+                randomString(random),
+                randomDateTime(random),
+                randomDateTime(random),
+                doctor,
+                patient);
+    }
+
+    // Any code point outside the surrogate range, including none at all
+    private static String randomString(Random random) {
+        StringBuilder value = new StringBuilder();
+        for (int n = random.nextInt(12); n > 0; n--) {
+            int codePoint = random.nextInt(Character.MAX_CODE_POINT + 1);
+            if (Character.isDefined(codePoint) && Character.getType(codePoint) != Character.SURROGATE) {
+                value.appendCodePoint(codePoint);
+            }
+        }
+        return value.toString();
+    }
+
+    private static LocalDateTime randomDateTime(Random random) {
+        return LocalDateTime.of(1900 + random.nextInt(200), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000));
+    }
+
+    // Inverts toProto with the conversions every reader of appointment.proto shares
+    private static AppointmentResponseDto readBack(Appointment.AppointmentResponseDto proto) {
+        Appointment.DoctorResponseDTO doctor = proto.getDoctor();
+        Appointment.PatientResponseDTO patient = proto.getPatientDetails();
+        return new AppointmentResponseDto(
+                proto.getId(),
+                ProtoTimestamps.toLocalDate(proto.getAppointmentDate()),
+                LocalTime.parse(proto.getStartTime()),
+                LocalTime.parse(proto.getEndTime()),
+                AppointmentStatus.valueOf(proto.getStatus().name()),
+                AppointmentType.valueOf(proto.getType().name()),
+                proto.getReason(),
+                List.copyOf(proto.getSymptomsList()),
+                proto.getNotes(),
+                proto.getDoctorNotes(),
+                proto.getPriority(),
+                proto.getMeetingLink(),
+                proto.getIsVirtual(),
+                proto.getCancellationReason(),
+                ProtoTimestamps.toLocalDateTime(proto.getCreatedAt()),
+                ProtoTimestamps.toLocalDateTime(proto.getUpdatedAt()),
+                DoctorResponseDTO.builder()
+                        .id(doctor.getId())
+                        .email(doctor.getEmail())
+                        .firstName(doctor.getFirstName())
+                        .lastName(doctor.getLastName())
+                        .specialization(doctor.getSpecialization())
+                        .licenseNumber(doctor.getLicenseNumber())
+                        .experienceYears(doctor.getExperienceYears())
+                        .phone(doctor.getPhone())
+                        .address(doctor.getAddress())
+                        .imageUrl(doctor.getImageUrl())
+                        .createdAt(ProtoTimestamps.toLocalDateTime(doctor.getCreatedAt()))
+                        .build(),
+                PatientResponseDTO.builder()
+                        .id(patient.getId())
+                        .email(patient.getEmail())
+                        .firstName(patient.getFirstName())
+                        .lastName(patient.getLastName())
+                        .dateOfBirth(ProtoTimestamps.toLocalDate(patient.getDateOfBirth()))
+                        .gender(patient.getGender())
+                        .bloodGroup(patient.getBloodGroup())
+                        .phone(patient.getPhone())
+                        .address(patient.getAddress())
+                        .imageUrl(patient.getImageUrl())
+                        .emergencyContact(patient.getEmergencyContact())
+                        .emergencyPhone(patient.getEmergencyPhone())
+                        .createdAt(ProtoTimestamps.toLocalDateTime(patient.getCreatedAt()))
+                        .build());
+    }
+
+    private static Appointment.AppointmentResponseDto readFixture() throws Exception {
+        Appointment.AppointmentResponseDto.Builder builder = Appointment.AppointmentResponseDto.newBuilder();
+        try (InputStream in = AppointmentProtoMapperTest.class.getResourceAsStream(FIXTURE);
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            TextFormat.merge(reader, builder);
+        }
+        return builder.build();
+    }
+}
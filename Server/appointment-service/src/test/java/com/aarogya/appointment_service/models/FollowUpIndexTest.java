@@ -0,0 +1,46 @@
+package com.aarogya.appointment_service.models;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FollowUpIndexTest {
+
+    private final List<Document> indexes = StreamSupport.stream(
+                    IndexResolver.create(mappingContext()).resolveIndexFor(FollowUp.class).spliterator(), false)
+            .map(IndexDefinition::getIndexKeys)
+            .toList();
+
+    // FollowUpRepositoryImpl filters on the user, optionally on status, and sorts on (recommendedDate, _id)
+    @Test
+    void everyKeysetSliceHasAnIndexEndingInItsSort() {
+        assertThat(indexes).map(keys -> List.copyOf(keys.keySet())).contains(
+                List.of("doctorId", "status", "recommendedDate", "_id"),
+                List.of("patientId", "status", "recommendedDate", "_id"),
+                List.of("doctorId", "recommendedDate", "_id"),
+                List.of("patientId", "recommendedDate", "_id"));
+    }
+
+    @Test
+    void sortKeysAreAscendingLikeTheSlice() {
+        assertThat(indexes).filteredOn(keys -> keys.containsKey("recommendedDate")).hasSize(4).allSatisfy(keys -> {
+            assertThat(keys.get("recommendedDate")).isEqualTo(1);
+            assertThat(keys.get("_id")).isEqualTo(1);
+        });
+    }
+
+    // As Spring Boot sets it up, with java.time values treated as simple types rather than entities
+    private static MongoMappingContext mappingContext() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        return mappingContext;
+    }
+}
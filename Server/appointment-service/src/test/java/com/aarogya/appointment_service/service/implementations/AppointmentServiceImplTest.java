@@ -0,0 +1,76 @@
+package com.aarogya.appointment_service.service.implementations;
+
+import com.aarogya.appointment_service.Clients.UserGrpcClient;
+import com.aarogya.appointment_service.dto.response.AppointmentResponseDto;
+import com.aarogya.appointment_service.exceptions.BadRequestException;
+import com.aarogya.appointment_service.models.Appointment;
+import com.aarogya.appointment_service.models.enums.AppointmentStatus;
+import com.aarogya.appointment_service.repository.AppointmentRepository;
+import com.aarogya.appointment_service.service.NotificationService;
+import com.aarogya.appointment_service.utils.AppointmentCacheKeys;
+import com.aarogya.appointment_service.utils.AppointmentSlotIndex;
+import com.aarogya.appointment_service.utils.AppointmentValidator;
+import com.aarogya.appointment_service.utils.EmergencyDoctorDispatcher;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AppointmentServiceImplTest {
+
+    private final AppointmentRepository appointmentRepository = mock(AppointmentRepository.class);
+    private final UserGrpcClient userGrpcClient = mock(UserGrpcClient.class);
+    private final AppointmentServiceImpl appointmentService = new AppointmentServiceImpl(appointmentRepository,
+            userGrpcClient, new ModelMapper(), mock(NotificationService.class), mock(AppointmentValidator.class),
+            mock(AppointmentSlotIndex.class), mock(AppointmentCacheKeys.class),
+            mock(EmergencyDoctorDispatcher.class));
+
+    @Test
+    void streamedAppointmentsAreMappedInOrderOneBatchAtATime() {
+        AtomicBoolean cursorClosed = new AtomicBoolean();
+        Stream<Appointment> cursor = IntStream.range(0, 450)
+                .mapToObj(i -> Appointment.builder().id("a-" + i).doctorId("doctor-1").patientId("p-" + i).build())
+                .onClose(() -> cursorClosed.set(true));
+        when(appointmentRepository.streamDoctorAppointments(eq("doctor-1"), isNull(), isNull(),
+                eq(AppointmentStatus.APPROVED))).thenReturn(cursor);
+        when(userGrpcClient.getProfiles(anySet(), anySet()))
+                .thenReturn(new UserGrpcClient.UserProfiles(Map.of(), Map.of()));
+
+        List<String> ids;
+        try (Stream<AppointmentResponseDto> appointments =
+                     appointmentService.streamDoctorAppointments("doctor-1", null, null, "approved")) {
+            ids = appointments.map(AppointmentResponseDto::getId).toList();
+        }
+
+        assertThat(ids).hasSize(450).startsWith("a-0", "a-1").endsWith("a-448", "a-449");
+        // 200 + 200 + 50
+        verify(userGrpcClient, times(3)).getProfiles(anySet(), anySet());
+        assertThat(cursorClosed).isTrue();
+    }
+
+    @Test
+    void unknownStatusIsABadRequest() {
+        assertThatThrownBy(() -> appointmentService.streamPatientAppointments("patient-1", null, null, "BOOKED"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Invalid appointment status: BOOKED");
+        assertThatThrownBy(() -> appointmentService.getDoctorAppointmentSlice("BOOKED", null, null, 0, 10))
+                .isInstanceOf(BadRequestException.class);
+        verify(appointmentRepository, never()).streamPatientAppointments(any(), any(), any(), any());
+    }
+}
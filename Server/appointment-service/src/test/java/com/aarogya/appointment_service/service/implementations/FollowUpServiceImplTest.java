@@ -0,0 +1,36 @@
+package com.aarogya.appointment_service.service.implementations;
+
+import com.aarogya.appointment_service.exceptions.BadRequestException;
+import com.aarogya.appointment_service.repository.AppointmentRepository;
+import com.aarogya.appointment_service.repository.FollowUpRepository;
+import com.aarogya.appointment_service.service.NotificationService;
+import com.aarogya.appointment_service.utils.FollowUpValidator;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class FollowUpServiceImplTest {
+
+    private final FollowUpRepository followUpRepository = mock(FollowUpRepository.class);
+    private final FollowUpServiceImpl followUpService = new FollowUpServiceImpl(followUpRepository,
+            mock(AppointmentRepository.class), new ModelMapper(), mock(NotificationService.class),
+            mock(FollowUpValidator.class));
+
+    @Test
+    void unknownStatusInASliceIsABadRequest() {
+        assertThatThrownBy(() -> followUpService.getFollowUpSlice("BOOKED", null, 0, 10))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Invalid follow-up status: BOOKED");
+        verifyNoInteractions(followUpRepository);
+    }
+
+    @Test
+    void malformedCursorIsABadRequest() {
+        assertThatThrownBy(() -> followUpService.getFollowUpSlice(null, "not-a-cursor", 0, 10))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(followUpRepository);
+    }
+}
@@ -0,0 +1,124 @@
+package com.aarogya.appointment_service.utils;
+
+import com.aarogya.appointment_service.models.Appointment;
+import com.aarogya.appointment_service.models.enums.AppointmentStatus;
+import com.aarogya.appointment_service.repository.AppointmentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AppointmentSlotIndexTest {
+
+    private static final String DOCTOR_ID = "doctor-1";
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 14);
+
+    private final AppointmentRepository appointmentRepository = mock(AppointmentRepository.class);
+    private final AppointmentSlotIndex slotIndex = new AppointmentSlotIndex(appointmentRepository, 100,
+            Duration.ofMinutes(2), new SimpleMeterRegistry());
+
+    @Test
+    void adjacentSlotsDoNotConflict() {
+        booked(slot("a-1", "10:00", "10:30"));
+
+        assertThat(hasConflict("10:30", "11:00", null)).isFalse();
+        assertThat(hasConflict("09:30", "10:00", null)).isFalse();
+        assertThat(hasConflict("10:29", "11:00", null)).isTrue();
+        assertThat(hasConflict("09:30", "10:01", null)).isTrue();
+        assertThat(hasConflict("10:10", "10:20", null)).isTrue();
+        assertThat(hasConflict("09:00", "11:00", null)).isTrue();
+    }
+
+    @Test
+    void excludedAppointmentDoesNotConflictWithItself() {
+        booked(slot("a-0", "09:00", "09:30"), slot("a-1", "10:00", "10:30"));
+
+        assertThat(hasConflict("10:00", "10:30", "a-1")).isFalse();
+        assertThat(hasConflict("10:00", "10:30", "a-2")).isTrue();
+        // Skipping the excluded slot must still reach the one before it
+        assertThat(hasConflict("09:15", "10:30", "a-1")).isTrue();
+        assertThat(hasConflict("09:30", "10:45", "a-1")).isFalse();
+    }
+
+    @Test
+    void overlappingEmergencySlotsAreAllChecked() {
+        // A long emergency with a regular booking inside it: the latest slot to start is no longer the only candidate
+        booked(slot("e-1", "10:00", "12:00"), slot("a-1", "10:30", "11:00"));
+
+        assertThat(hasConflict("11:30", "11:45", null)).isTrue();
+        assertThat(hasConflict("11:30", "11:45", "e-1")).isFalse();
+        assertThat(hasConflict("12:00", "12:30", null)).isFalse();
+        assertThat(hasConflict("09:00", "10:00", null)).isFalse();
+    }
+
+    @Test
+    void emergencyRecordedIntoALoadedDayIsAllChecked() {
+        booked(slot("a-1", "10:30", "11:00"));
+        assertThat(hasConflict("11:30", "11:45", null)).isFalse();
+
+        slotIndex.record(appointment("e-1", "10:00", "12:00", AppointmentStatus.APPROVED));
+
+        assertThat(hasConflict("11:30", "11:45", null)).isTrue();
+    }
+
+    @Test
+    void cancelledOrCompletedSlotIsFreed() {
+        booked(slot("a-1", "10:00", "10:30"), slot("a-2", "11:00", "11:30"));
+        assertThat(hasConflict("10:00", "10:30", null)).isTrue();
+
+        slotIndex.record(appointment("a-1", "10:00", "10:30", AppointmentStatus.CANCELLED));
+        slotIndex.record(appointment("a-2", "11:00", "11:30", AppointmentStatus.COMPLETED));
+
+        assertThat(hasConflict("10:00", "10:30", null)).isFalse();
+        assertThat(hasConflict("11:00", "11:30", null)).isFalse();
+        verify(appointmentRepository, times(1)).findBookedSlots(DOCTOR_ID, DATE);
+    }
+
+    @Test
+    void rescheduledSlotMovesWithItsAppointment() {
+        booked(slot("a-1", "10:00", "10:30"));
+        assertThat(hasConflict("14:15", "14:45", null)).isFalse();
+
+        slotIndex.record(appointment("a-1", "14:00", "14:30", AppointmentStatus.PENDING));
+
+        assertThat(hasConflict("10:00", "10:30", null)).isFalse();
+        assertThat(hasConflict("14:15", "14:45", null)).isTrue();
+    }
+
+    private void booked(Appointment... slots) {
+        when(appointmentRepository.findBookedSlots(DOCTOR_ID, DATE)).thenReturn(List.of(slots));
+    }
+
+    private boolean hasConflict(String start, String end, String excludeAppointmentId) {
+        return slotIndex.hasConflict(DOCTOR_ID, DATE, LocalTime.parse(start), LocalTime.parse(end), excludeAppointmentId);
+    }
+
+    // findBookedSlots projects the id and times only
+    private static Appointment slot(String id, String start, String end) {
+        return Appointment.builder()
+                .id(id)
+                .startTime(LocalTime.parse(start))
+                .endTime(LocalTime.parse(end))
+                .build();
+    }
+
+    private static Appointment appointment(String id, String start, String end, AppointmentStatus status) {
+        return Appointment.builder()
+                .id(id)
+                .doctorId(DOCTOR_ID)
+                .appointmentDate(DATE)
+                .startTime(LocalTime.parse(start))
+                .endTime(LocalTime.parse(end))
+                .status(status)
+                .build();
+    }
+}
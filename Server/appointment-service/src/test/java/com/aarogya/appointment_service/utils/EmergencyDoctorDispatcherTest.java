@@ -0,0 +1,145 @@
+package com.aarogya.appointment_service.utils;
+
+import com.aarogya.appointment_service.Clients.UserGrpcClient;
+import com.aarogya.appointment_service.exceptions.BadRequestException;
+import com.aarogya.appointment_service.exceptions.ResourceNotFound;
+import com.aarogya.appointment_service.models.Appointment;
+import com.aarogya.appointment_service.models.enums.AppointmentStatus;
+import com.aarogya.appointment_service.models.enums.AppointmentType;
+import com.aarogya.appointment_service.repository.AppointmentRepository;
+import com.aarogya.appointment_service.repository.DoctorAvailabilityRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmergencyDoctorDispatcherTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 14);
+    private static final LocalTime START = LocalTime.of(10, 0);
+    private static final LocalTime END = LocalTime.of(10, 30);
+
+    private final UserGrpcClient userGrpcClient = mock(UserGrpcClient.class);
+    private final AppointmentRepository appointmentRepository = mock(AppointmentRepository.class);
+    private final DoctorAvailabilityRepository doctorAvailabilityRepository = mock(DoctorAvailabilityRepository.class);
+    private final AppointmentSlotIndex appointmentSlotIndex = mock(AppointmentSlotIndex.class);
+    private final EmergencyDoctorDispatcher dispatcher = new EmergencyDoctorDispatcher(userGrpcClient,
+            appointmentRepository, doctorAvailabilityRepository, appointmentSlotIndex, "EMERGENCY_MEDICINE",
+            Duration.ofMinutes(5), new SimpleMeterRegistry());
+
+    EmergencyDoctorDispatcherTest() {
+        when(appointmentRepository.findOpenAppointmentDoctors(any(), any())).thenReturn(List.of());
+        when(doctorAvailabilityRepository.findByDoctorIdInAndDayOfWeek(any(), anyInt())).thenReturn(List.of());
+    }
+
+    @Test
+    void concurrentEmergenciesNeverClaimTheSameDoctorForTheSameWindow() throws Exception {
+        int doctors = 8;
+        when(userGrpcClient.getDoctorIdsBySpecialization("EMERGENCY_MEDICINE"))
+                .thenReturn(IntStream.range(0, doctors).mapToObj(i -> "doctor-" + i).toList());
+
+        int emergencies = 64;
+        ExecutorService callers = Executors.newFixedThreadPool(emergencies);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<String> claimedDoctors = ConcurrentHashMap.newKeySet();
+        AtomicInteger claimed = new AtomicInteger();
+        AtomicInteger turnedAway = new AtomicInteger();
+        List<Future<?>> calls = new ArrayList<>();
+        try {
+            for (int i = 0; i < emergencies; i++) {
+                calls.add(callers.submit(() -> {
+                    start.await();
+                    try {
+                        claimedDoctors.add(dispatcher.claim(null, DATE, START, END).doctorId());
+                        claimed.incrementAndGet();
+                    } catch (ResourceNotFound e) {
+                        turnedAway.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> call : calls) {
+                call.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(claimed).hasValue(doctors);
+        assertThat(claimedDoctors).hasSize(doctors);
+        assertThat(turnedAway).hasValue(emergencies - doctors);
+    }
+
+    @Test
+    void unknownPreferredSpecializationFallsBackToTheDefault() {
+        when(userGrpcClient.getDoctorIdsBySpecialization("CARDIOLGY"))
+                .thenThrow(new BadRequestException("Unknown specialization: CARDIOLGY"));
+        when(userGrpcClient.getDoctorIdsBySpecialization("EMERGENCY_MEDICINE")).thenReturn(List.of("doctor-1"));
+
+        assertThat(dispatcher.claim("cardiolgy", DATE, START, END).doctorId()).isEqualTo("doctor-1");
+    }
+
+    @Test
+    void releasedClaimMakesTheDoctorAvailableAgain() {
+        when(userGrpcClient.getDoctorIdsBySpecialization("EMERGENCY_MEDICINE")).thenReturn(List.of("doctor-1"));
+
+        EmergencyDoctorDispatcher.Claim claim = dispatcher.claim(null, DATE, START, END);
+        assertThatThrownBy(() -> dispatcher.claim(null, DATE, START, END)).isInstanceOf(ResourceNotFound.class);
+        dispatcher.release(claim);
+
+        assertThat(dispatcher.claim(null, DATE, START, END).doctorId()).isEqualTo("doctor-1");
+    }
+
+    @Test
+    void closingAnEmergencyFreesTheDoctorBeforeThePoolIsRebuilt() {
+        when(userGrpcClient.getDoctorIdsBySpecialization("EMERGENCY_MEDICINE")).thenReturn(List.of("doctor-1"));
+        String doctorId = dispatcher.claim(null, DATE, START, END).doctorId();
+        assertThatThrownBy(() -> dispatcher.claim(null, DATE, START, END)).isInstanceOf(ResourceNotFound.class);
+
+        dispatcher.statusChanged(emergency(doctorId, AppointmentStatus.CANCELLED), AppointmentStatus.APPROVED);
+
+        assertThat(dispatcher.claim(null, DATE, START, END).doctorId()).isEqualTo("doctor-1");
+    }
+
+    @Test
+    void statusChangesBetweenOpenStatusesKeepTheClaim() {
+        when(userGrpcClient.getDoctorIdsBySpecialization("EMERGENCY_MEDICINE")).thenReturn(List.of("doctor-1"));
+        String doctorId = dispatcher.claim(null, DATE, START, END).doctorId();
+
+        dispatcher.statusChanged(emergency(doctorId, AppointmentStatus.IN_PROGRESS), AppointmentStatus.APPROVED);
+
+        assertThatThrownBy(() -> dispatcher.claim(null, DATE, START, END)).isInstanceOf(ResourceNotFound.class);
+    }
+
+    private static Appointment emergency(String doctorId, AppointmentStatus status) {
+        return Appointment.builder()
+                .doctorId(doctorId)
+                .appointmentDate(DATE)
+                .startTime(START)
+                .endTime(END)
+                .type(AppointmentType.EMERGENCY)
+                .status(status)
+                .build();
+    }
+}
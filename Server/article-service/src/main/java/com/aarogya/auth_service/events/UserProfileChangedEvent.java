@@ -0,0 +1,20 @@
+package com.aarogya.auth_service.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserProfileChangedEvent {
+
+    private String userId;
+    private String role;
+
+    private LocalDateTime changedAt;
+}
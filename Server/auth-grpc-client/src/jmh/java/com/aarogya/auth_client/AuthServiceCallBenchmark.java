@@ -0,0 +1,83 @@
+package com.aarogya.auth_client;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.health.v1.HealthCheckRequest;
+import io.grpc.health.v1.HealthCheckResponse;
+import io.grpc.health.v1.HealthGrpc;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.protobuf.services.HealthStatusManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side cost of one user lookup: the old path, which asked the health service before every call,
+ * against a single call through {@link AuthServiceCaller}. The lookup is stood in for by another
+ * health check so the module needs no auth proto. The server is in-process, so the difference is the
+ * floor; over the network the old path also pays one extra round trip per lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthServiceCallBenchmark {
+
+    private static final HealthCheckRequest LOOKUP = HealthCheckRequest.getDefaultInstance();
+
+    private Server server;
+    private ManagedChannel channel;
+    private HealthGrpc.HealthBlockingStub blockingStub;
+    private HealthGrpc.HealthFutureStub futureStub;
+    private AuthServiceCaller caller;
+
+    @Setup
+    public void setUp() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .addService(new HealthStatusManager().getHealthService())
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+        blockingStub = HealthGrpc.newBlockingStub(channel);
+        futureStub = HealthGrpc.newFutureStub(channel);
+        caller = new AuthServiceCaller(CircuitBreakerRegistry.ofDefaults(), Duration.ofSeconds(2),
+                IllegalStateException::new);
+    }
+
+    @TearDown
+    public void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Benchmark
+    public HealthCheckResponse healthCheckBeforeEachCall() {
+        HealthCheckResponse health = blockingStub.withDeadlineAfter(2, TimeUnit.SECONDS).check(LOOKUP);
+        if (health.getStatus() != HealthCheckResponse.ServingStatus.SERVING) {
+            throw new IllegalStateException("Auth service is not healthy");
+        }
+        return blockingStub.withDeadlineAfter(2, TimeUnit.SECONDS).check(LOOKUP);
+    }
+
+    @Benchmark
+    public HealthCheckResponse guardedCall() {
+        return caller.call(() -> caller.withDeadline(futureStub).check(LOOKUP));
+    }
+}
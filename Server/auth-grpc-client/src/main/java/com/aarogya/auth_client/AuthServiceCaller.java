@@ -0,0 +1,108 @@
+package com.aarogya.auth_client;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.AbstractStub;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Call handling shared by the services that look up users in auth-service: a per-call deadline and the
+ * {@code authService} circuit breaker. Unhealthy instances are already skipped by the channel's
+ * {@code healthCheckConfig}, so calls are not preceded by a health check of their own.
+ * <p>
+ * Only transport-level failures count towards opening the breaker. While it is open, or when a call cannot
+ * complete, the caller gets the exception built by {@code unavailable}, so each service keeps its own
+ * 503 type.
+ */
+public class AuthServiceCaller {
+
+    public static final String CIRCUIT_BREAKER_NAME = "authService";
+
+    private static final Logger log = LoggerFactory.getLogger(AuthServiceCaller.class);
+
+    private final CircuitBreaker circuitBreaker;
+    private final long deadlineMillis;
+    private final Function<String, ? extends RuntimeException> unavailable;
+
+    public AuthServiceCaller(CircuitBreakerRegistry circuitBreakerRegistry, Duration deadline,
+                             Function<String, ? extends RuntimeException> unavailable) {
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME, circuitBreakerConfig());
+        this.deadlineMillis = deadline.toMillis();
+        this.unavailable = unavailable;
+    }
+
+    /**
+     * Sends one RPC through the circuit breaker and waits for its answer. gRPC errors are rethrown as
+     * {@link StatusRuntimeException} for the caller to translate.
+     */
+    public <T> T call(Supplier<ListenableFuture<T>> call) {
+        return execute(() -> await(call.get()));
+    }
+
+    /**
+     * Runs a unit of work, such as several concurrent RPCs, through the circuit breaker as one call.
+     */
+    public <T> T execute(Supplier<T> work) {
+        try {
+            return circuitBreaker.executeSupplier(work);
+        } catch (CallNotPermittedException e) {
+            log.warn("Auth service circuit breaker is open, failing fast");
+            throw unavailable.apply("Auth service is currently unavailable");
+        }
+    }
+
+    // Each call gets its own deadline, so a hung auth instance cannot pin a request thread; hedged attempts share it
+    public <S extends AbstractStub<S>> S withDeadline(S stub) {
+        return stub.withDeadlineAfter(deadlineMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public <T> T await(ListenableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof StatusRuntimeException statusException) {
+                throw statusException;
+            }
+            throw unavailable.apply("Auth service is currently unavailable");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw unavailable.apply("Interrupted while calling auth service");
+        }
+    }
+
+    private static CircuitBreakerConfig circuitBreakerConfig() {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofSeconds(10))
+                .recordException(AuthServiceCaller::isAuthServiceFailure)
+                .build();
+    }
+
+    // NOT_FOUND, INVALID_ARGUMENT and the like are answers from a healthy server and must not open the breaker
+    static boolean isAuthServiceFailure(Throwable throwable) {
+        if (!(throwable instanceof StatusRuntimeException statusException)) {
+            return false;
+        }
+        Status.Code code = statusException.getStatus().getCode();
+        return code == Status.Code.UNAVAILABLE
+                || code == Status.Code.DEADLINE_EXCEEDED
+                || code == Status.Code.RESOURCE_EXHAUSTED
+                || code == Status.Code.INTERNAL
+                || code == Status.Code.UNKNOWN;
+    }
+}
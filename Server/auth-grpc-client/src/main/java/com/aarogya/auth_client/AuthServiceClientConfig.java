@@ -0,0 +1,94 @@
+package com.aarogya.auth_client;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelConfigurer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The {@code auth-service} channel and the {@link AuthServiceCaller} for every service that looks up users.
+ * A service extends this in a {@code @Configuration} class and passes the exception it answers 503 with:
+ * <pre>{@code
+ * @Configuration
+ * public class GrpcClientConfig extends AuthServiceClientConfig {
+ *     public GrpcClientConfig() {
+ *         super(ServiceUnavailable::new);
+ *     }
+ * }
+ * }</pre>
+ * Settings are read from {@code auth-client.*}; the defaults below match what the services ship with.
+ */
+public abstract class AuthServiceClientConfig {
+
+    public static final String AUTH_SERVICE_CHANNEL = "auth-service";
+
+    // Idempotent lookups only; hedging the streaming RPCs would open duplicate streams
+    private static final List<String> HEDGED_AUTH_METHODS = List.of(
+            "GetDoctorById", "GetPatientById", "GetDoctorsByIds", "GetPatientsByIds");
+
+    private final Function<String, ? extends RuntimeException> unavailable;
+
+    protected AuthServiceClientConfig(Function<String, ? extends RuntimeException> unavailable) {
+        this.unavailable = unavailable;
+    }
+
+    /**
+     * Round-robins auth-service calls across the instances registered in Eureka, skipping any that report
+     * NOT_SERVING on the health service. When hedging is enabled, a lookup that has not answered within the
+     * hedging delay is sent again to another instance and the first response wins.
+     */
+    @Bean
+    public GrpcChannelConfigurer authServiceChannelConfigurer(
+            @Value("${auth-client.hedging.enabled:true}") boolean hedgingEnabled,
+            @Value("${auth-client.hedging.max-attempts:2}") int maxAttempts,
+            @Value("${auth-client.hedging.delay:50ms}") Duration hedgingDelay) {
+        Map<String, Object> serviceConfig = serviceConfig(hedgingEnabled, maxAttempts, hedgingDelay);
+        return (builder, name) -> {
+            if (!AUTH_SERVICE_CHANNEL.equals(name)) {
+                return;
+            }
+            if (hedgingEnabled) {
+                builder.enableRetry();
+            }
+            builder.defaultServiceConfig(serviceConfig);
+        };
+    }
+
+    /**
+     * Deadline and circuit breaker for auth-service lookups. Instance health is left to the channel's
+     * {@code healthCheckConfig} above.
+     */
+    @Bean
+    public AuthServiceCaller authServiceCaller(CircuitBreakerRegistry circuitBreakerRegistry,
+                                               @Value("${auth-client.deadline:2s}") Duration deadline) {
+        return new AuthServiceCaller(circuitBreakerRegistry, deadline, unavailable);
+    }
+
+    static Map<String, Object> serviceConfig(boolean hedgingEnabled, int maxAttempts, Duration hedgingDelay) {
+        Map<String, Object> serviceConfig = new HashMap<>();
+        serviceConfig.put("loadBalancingConfig", List.of(Map.of("round_robin", Map.of())));
+        serviceConfig.put("healthCheckConfig", Map.of("serviceName", ""));
+        if (hedgingEnabled) {
+            serviceConfig.put("methodConfig", List.of(hedgingMethodConfig(maxAttempts, hedgingDelay)));
+        }
+        return Map.copyOf(serviceConfig);
+    }
+
+    private static Map<String, Object> hedgingMethodConfig(int maxAttempts, Duration hedgingDelay) {
+        List<Map<String, Object>> names = HEDGED_AUTH_METHODS.stream()
+                .<Map<String, Object>>map(method -> Map.of("service", "auth.AuthService", "method", method))
+                .toList();
+        // Service config is parsed as JSON, so numbers must be doubles and durations "<seconds>s" strings
+        Map<String, Object> hedgingPolicy = Map.of(
+                "maxAttempts", (double) maxAttempts,
+                "hedgingDelay", hedgingDelay.toMillis() / 1000.0 + "s",
+                "nonFatalStatusCodes", List.of("UNAVAILABLE"));
+        return Map.of("name", names, "hedgingPolicy", hedgingPolicy);
+    }
+}
@@ -0,0 +1,101 @@
+package com.aarogya.auth_client;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthServiceCallerTest {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final AuthServiceCaller caller = new AuthServiceCaller(circuitBreakerRegistry, Duration.ofSeconds(2),
+            UnavailableException::new);
+
+    @Test
+    void returnsTheAnswer() {
+        assertThat(caller.call(() -> Futures.immediateFuture("doctor-1"))).isEqualTo("doctor-1");
+    }
+
+    @Test
+    void rethrowsGrpcErrorsForTheCallerToTranslate() {
+        assertThatThrownBy(() -> caller.call(() -> failed(Status.NOT_FOUND)))
+                .isInstanceOf(StatusRuntimeException.class)
+                .satisfies(e -> assertThat(Status.fromThrowable(e).getCode()).isEqualTo(Status.Code.NOT_FOUND));
+    }
+
+    @Test
+    void missesReportedByAuthServiceDoNotOpenTheBreaker() {
+        // What auth-service's UserGrpcService sends for an unknown ID and for an unknown specialization
+        for (int i = 0; i < 20; i++) {
+            Status miss = i % 2 == 0
+                    ? Status.NOT_FOUND.withDescription("Doctor not found with ID: missing")
+                    : Status.INVALID_ARGUMENT.withDescription("Unknown specialization: cardiolgy");
+            assertThatThrownBy(() -> caller.call(() -> failed(miss)))
+                    .isInstanceOf(StatusRuntimeException.class);
+        }
+
+        assertThat(breaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void internalErrorsFromAuthServiceOpenTheBreaker() {
+        // Anything else UserGrpcService fails with, such as a database outage, arrives as INTERNAL
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> caller.call(() -> failed(
+                    Status.INTERNAL.withDescription("Internal server error in getDoctorById"))))
+                    .isInstanceOf(StatusRuntimeException.class);
+        }
+
+        assertThat(breaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void failsFastOnceTransportFailuresOpenTheBreaker() {
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> caller.call(() -> failed(Status.UNAVAILABLE)))
+                    .isInstanceOf(StatusRuntimeException.class);
+        }
+        AtomicInteger sent = new AtomicInteger();
+
+        assertThatThrownBy(() -> caller.call(() -> {
+            sent.incrementAndGet();
+            return Futures.immediateFuture("doctor-1");
+        })).isInstanceOf(UnavailableException.class);
+        assertThat(breaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(sent).hasValue(0);
+    }
+
+    @Test
+    void interruptedWaitCancelsTheCall() {
+        SettableFuture<String> pending = SettableFuture.create();
+        Thread.currentThread().interrupt();
+
+        assertThatThrownBy(() -> caller.call(() -> pending)).isInstanceOf(UnavailableException.class);
+        assertThat(pending.isCancelled()).isTrue();
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
+    private CircuitBreaker breaker() {
+        return circuitBreakerRegistry.circuitBreaker(AuthServiceCaller.CIRCUIT_BREAKER_NAME);
+    }
+
+    private static <T> ListenableFuture<T> failed(Status status) {
+        return Futures.immediateFailedFuture(status.asRuntimeException());
+    }
+
+    private static class UnavailableException extends RuntimeException {
+        UnavailableException(String message) {
+            super(message);
+        }
+    }
+}
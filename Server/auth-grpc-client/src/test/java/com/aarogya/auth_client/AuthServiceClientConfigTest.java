@@ -0,0 +1,159 @@
+package com.aarogya.auth_client;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.protobuf.services.HealthStatusManager;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ServerCalls;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelConfigurer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class AuthServiceClientConfigTest {
+
+    private static final MethodDescriptor<String, String> GET_DOCTOR_BY_ID =
+            MethodDescriptor.<String, String>newBuilder()
+                    .setType(MethodDescriptor.MethodType.UNARY)
+                    .setFullMethodName(MethodDescriptor.generateFullMethodName("auth.AuthService", "GetDoctorById"))
+                    .setRequestMarshaller(new StringMarshaller())
+                    .setResponseMarshaller(new StringMarshaller())
+                    .build();
+
+    private final TestConfig config = new TestConfig();
+    private final AtomicInteger attempts = new AtomicInteger();
+    private String serverName;
+    private Server server;
+    private ManagedChannel channel;
+
+    @AfterEach
+    void shutDown() {
+        if (channel != null) {
+            channel.shutdownNow();
+        }
+        if (server != null) {
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    void hedgedLookupIsAnsweredWhenTheFirstAttemptHangs() throws Exception {
+        startAuthServiceThatHangsOnTheFirstCall();
+        GrpcChannelConfigurer configurer = config.authServiceChannelConfigurer(true, 2, Duration.ofMillis(50));
+
+        String doctor = lookup(configurer);
+
+        assertThat(doctor).isEqualTo("doctor-1");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void withoutHedgingAHungLookupRunsIntoTheDeadline() throws Exception {
+        startAuthServiceThatHangsOnTheFirstCall();
+        GrpcChannelConfigurer configurer = config.authServiceChannelConfigurer(false, 2, Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> lookup(configurer))
+                .satisfies(e -> assertThat(Status.fromThrowable(e).getCode())
+                        .isEqualTo(Status.Code.DEADLINE_EXCEEDED));
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void leavesOtherChannelsAlone() {
+        ManagedChannelBuilder<?> builder = mock(ManagedChannelBuilder.class);
+
+        config.authServiceChannelConfigurer(true, 2, Duration.ofMillis(50)).accept(builder, "doctor-service");
+
+        verifyNoInteractions(builder);
+    }
+
+    @Test
+    void subclassRegistersTheChannelConfigurerAndCaller() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance());
+            context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test",
+                    Map.of("auth-client.deadline", "1s", "auth-client.hedging.delay", "20ms")));
+            context.registerBean(CircuitBreakerRegistry.class, CircuitBreakerRegistry::ofDefaults);
+            context.register(TestConfig.class);
+            context.refresh();
+
+            assertThat(context.getBean(GrpcChannelConfigurer.class)).isNotNull();
+            assertThat(context.getBean(AuthServiceCaller.class)).isNotNull();
+        }
+    }
+
+    private void startAuthServiceThatHangsOnTheFirstCall() throws IOException {
+        ServerServiceDefinition authService = ServerServiceDefinition.builder("auth.AuthService")
+                .addMethod(GET_DOCTOR_BY_ID, ServerCalls.asyncUnaryCall((request, responseObserver) -> {
+                    if (attempts.incrementAndGet() > 1) {
+                        responseObserver.onNext("doctor-1");
+                        responseObserver.onCompleted();
+                    }
+                }))
+                .build();
+        serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName)
+                .addService(authService)
+                .addService(new HealthStatusManager().getHealthService())
+                .build()
+                .start();
+    }
+
+    private String lookup(GrpcChannelConfigurer configurer) throws Exception {
+        InProcessChannelBuilder builder = InProcessChannelBuilder.forName(serverName);
+        configurer.accept(builder, AuthServiceClientConfig.AUTH_SERVICE_CHANNEL);
+        channel = builder.build();
+        return ClientCalls.futureUnaryCall(
+                channel.newCall(GET_DOCTOR_BY_ID, CallOptions.DEFAULT.withDeadlineAfter(500, TimeUnit.MILLISECONDS)),
+                "doctor-1").get(5, TimeUnit.SECONDS);
+    }
+
+    @Configuration
+    static class TestConfig extends AuthServiceClientConfig {
+        TestConfig() {
+            super(IllegalStateException::new);
+        }
+    }
+
+    private static class StringMarshaller implements MethodDescriptor.Marshaller<String> {
+        @Override
+        public InputStream stream(String value) {
+            return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String parse(InputStream stream) {
+            try {
+                return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.aarogya.auth_service.grpc;
+
+import com.aarogya.auth.proto.DoctorResponse;
+import com.aarogya.auth_service.dto.DoctorResponseDTO;
+import com.aarogya.auth_service.mapper.DoctorMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.protobuf.CodedOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A GetDoctorById cache hit up to the bytes that go on the wire, once with the DTO cached and the message
+ * built per call, as before, and once with the built {@link DoctorResponse} cached. Run with {@code -prof gc}
+ * and compare {@code gc.alloc.rate.norm}, the bytes allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtoResponseCacheBenchmark {
+
+    private static final String DOCTOR_ID = "682c9dadc231b526e2eecca7";
+
+    private final DoctorMapper doctorMapper = new DoctorMapper();
+    private final byte[] wire = new byte[1024];
+    private Cache dtoCache;
+    private Cache protoCache;
+
+    @Setup
+    public void setUp() {
+        DoctorResponseDTO doctor = DoctorResponseDTO.builder()
+                .id(DOCTOR_ID)
+                .email("asha.rao@example.com")
+                .firstName("Asha")
+                .lastName("Rao")
+                .specialization("CARDIOLOGY")
+                .licenseNumber("MCI-204518")
+                .experienceYears(12)
+                .phone("+919876543210")
+                .address("12 MG Road, Bengaluru")
+                .imageUrl("https://cdn.example.com/doctors/asha.png")
+                .createdAt(LocalDateTime.of(2025, 5, 20, 9, 30))
+                .build();
+        dtoCache = new CaffeineCache("doctors", Caffeine.newBuilder().maximumSize(100).build());
+        protoCache = new CaffeineCache("doctorResponses", Caffeine.newBuilder().maximumSize(100).build());
+        dtoCache.put(DOCTOR_ID, doctor);
+        protoCache.put(DOCTOR_ID, doctorMapper.toProto(doctor));
+    }
+
+    @Benchmark
+    public int cachedDto() throws IOException {
+        return write(doctorMapper.toProto(dtoCache.get(DOCTOR_ID, DoctorResponseDTO.class)));
+    }
+
+    @Benchmark
+    public int cachedProto() throws IOException {
+        return write(protoCache.get(DOCTOR_ID, DoctorResponse.class));
+    }
+
+    private int write(DoctorResponse response) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(wire);
+        response.writeTo(output);
+        return output.getTotalBytesWritten();
+    }
+}
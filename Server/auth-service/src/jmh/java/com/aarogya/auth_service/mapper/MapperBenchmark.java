@@ -0,0 +1,95 @@
+package com.aarogya.auth_service.mapper;
+
+import com.aarogya.auth_service.documents.Doctor;
+import com.aarogya.auth_service.documents.Patient;
+import com.aarogya.auth_service.documents.enums.Specialization;
+import com.aarogya.auth_service.dto.DoctorResponseDTO;
+import com.aarogya.auth_service.dto.PatientResponseDTO;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of mapping documents to response DTOs with the explicit mappers against the ModelMapper
+ * setup they replaced. Run with {@code -prof gc} to compare allocation as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final DoctorMapper doctorMapper = new DoctorMapper();
+    private final PatientMapper patientMapper = new PatientMapper();
+    private Doctor doctor;
+    private Patient patient;
+
+    @Setup
+    public void setUp() {
+        doctor = Doctor.builder()
+                .id("682c9dadc231b526e2eecca7")
+                .email("asha.rao@example.com")
+                .firstName("Asha")
+                .lastName("Rao")
+                .specialization(Specialization.CARDIOLOGY)
+                .licenseNumber("MCI-204518")
+                .experienceYears(12)
+                .phone("+919876543210")
+                .address("12 MG Road, Bengaluru")
+                .imageUrl("https://cdn.example.com/doctors/asha.png")
+                .createdAt(LocalDateTime.of(2025, 5, 20, 9, 30))
+                .build();
+        patient = Patient.builder()
+                .id("682c9dadc231b526e2eecca8")
+                .email("ravi.kumar@example.com")
+                .firstName("Ravi")
+                .lastName("Kumar")
+                .dateOfBirth(LocalDate.of(1990, 3, 14))
+                .gender("MALE")
+                .bloodGroup("O+")
+                .phone("+919812345678")
+                .address("4 Park Street, Kolkata")
+                .emergencyContact("Meena Kumar")
+                .emergencyPhone("+919898989898")
+                .createdAt(LocalDateTime.of(2025, 5, 21, 18, 5))
+                .build();
+        // Resolve the type maps up front so the baseline measures steady-state mapping
+        modelMapper.map(doctor, DoctorResponseDTO.class);
+        modelMapper.map(patient, PatientResponseDTO.class);
+    }
+
+    @Benchmark
+    public DoctorResponseDTO doctorWithModelMapper() {
+        return modelMapper.map(doctor, DoctorResponseDTO.class);
+    }
+
+    @Benchmark
+    public DoctorResponseDTO doctorWithMapper() {
+        return doctorMapper.toResponseDTO(doctor);
+    }
+
+    @Benchmark
+    public PatientResponseDTO patientWithModelMapper() {
+        return modelMapper.map(patient, PatientResponseDTO.class);
+    }
+
+    @Benchmark
+    public PatientResponseDTO patientWithMapper() {
+        return patientMapper.toResponseDTO(patient);
+    }
+}
@@ -0,0 +1,50 @@
+package com.aarogya.auth_service.security;
+
+import com.aarogya.auth_service.util.PasswordUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of hashing and verifying at the {@code password.bcrypt.log-rounds} values worth
+ * considering. Each extra round doubles the cost, and the result bounds how many logins per second one
+ * core of the hashing pool can serve.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BCryptCostBenchmark {
+
+    @Param({"10", "11", "12"})
+    private int logRounds;
+
+    private String hashedPassword;
+
+    @Setup
+    public void setUp() {
+        hashedPassword = PasswordUtil.hashPassword("correct horse battery staple", logRounds);
+    }
+
+    @Benchmark
+    public String hash() {
+        return PasswordUtil.hashPassword("correct horse battery staple", logRounds);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return PasswordUtil.checkPassword("correct horse battery staple", hashedPassword);
+    }
+}
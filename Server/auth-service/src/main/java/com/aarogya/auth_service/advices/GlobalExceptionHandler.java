@@ -68,6 +68,16 @@ public class GlobalExceptionHandler {
         return buildErrorResponseEntity(apiError);
     }
 
+    @ExceptionHandler(TooManyRequests.class)
+    public ResponseEntity<ApiResponse<?>> handleTooManyRequestsException(TooManyRequests exception) {
+        logger.error("Too many requests: {}", exception.getMessage());
+        ApiError apiError = new ApiError.ApiErrorBuilder()
+                .setStatus(HttpStatus.TOO_MANY_REQUESTS)
+                .setMessage(exception.getLocalizedMessage())
+                .build();
+        return buildErrorResponseEntity(apiError);
+    }
+
     @ExceptionHandler(IllegalState.class)
     public ResponseEntity<ApiResponse<?>> handleIllegalStateException(IllegalState exception) {
         logger.error("Illegal state: {}", exception.getMessage());
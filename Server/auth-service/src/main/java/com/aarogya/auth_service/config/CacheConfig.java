@@ -1,9 +1,61 @@
 package com.aarogya.auth_service.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 @EnableCaching
 public class CacheConfig {
+
+    public static final String DOCTORS_CACHE = "doctors";
+    public static final String PATIENTS_CACHE = "patients";
+    public static final String DOCTORS_BY_SPECIALIZATION_CACHE = "doctorsBySpecialization";
+    public static final String PATIENTS_BY_GENDER_CACHE = "patientsByGender";
+    public static final String DOCTOR_RESPONSES_CACHE = "doctorResponses";
+    public static final String PATIENT_RESPONSES_CACHE = "patientResponses";
+
+    @Value("${cache.profiles.maximum-size:10000}")
+    private long profileMaximumSize;
+
+    @Value("${cache.profiles.ttl:30m}")
+    private Duration profileTtl;
+
+    @Value("${cache.lists.maximum-size:100}")
+    private long listMaximumSize;
+
+    @Value("${cache.lists.ttl:5m}")
+    private Duration listTtl;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(DOCTORS_CACHE, profileCache().build());
+        cacheManager.registerCustomCache(PATIENTS_CACHE, profileCache().build());
+        cacheManager.registerCustomCache(DOCTORS_BY_SPECIALIZATION_CACHE, listCache().build());
+        cacheManager.registerCustomCache(PATIENTS_BY_GENDER_CACHE, listCache().build());
+        cacheManager.registerCustomCache(DOCTOR_RESPONSES_CACHE, profileCache().build());
+        cacheManager.registerCustomCache(PATIENT_RESPONSES_CACHE, profileCache().build());
+        return cacheManager;
+    }
+
+    private Caffeine<Object, Object> profileCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(profileMaximumSize)
+                .expireAfterWrite(profileTtl)
+                .recordStats();
+    }
+
+    private Caffeine<Object, Object> listCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(listMaximumSize)
+                .expireAfterWrite(listTtl)
+                .recordStats();
+    }
 }
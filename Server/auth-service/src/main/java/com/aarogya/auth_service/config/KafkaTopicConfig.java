@@ -11,4 +11,9 @@ public class KafkaTopicConfig {
     public NewTopic sendOtpTopic() {
         return new NewTopic("send-otp", 3, (short) 1);
     }
+
+    @Bean
+    public NewTopic userProfileChangedTopic() {
+        return new NewTopic("user-profile-changed", 3, (short) 1);
+    }
 }
@@ -0,0 +1,42 @@
+package com.aarogya.auth_service.documents;
+
+import com.aarogya.auth_service.events.SendOtpEvent;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * An OTP event that has not yet been acknowledged by Kafka. Entries are removed once the broker confirms
+ * the send; whatever is left is picked up again by the retry job until the OTP itself would have expired.
+ */
+@Document(collection = "otp_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OtpOutboxEntry {
+
+    @Id
+    private String id;
+
+    private String eventKey;
+    private SendOtpEvent event;
+
+    @Builder.Default
+    private int attempts = 0;
+
+    // Instance that holds the current claim; diagnostic only, the lease is nextAttemptAt
+    private String claimedBy;
+
+    @Indexed
+    private LocalDateTime nextAttemptAt;
+
+    // An OTP is only valid for ten minutes, so there is no point delivering it after that
+    @Indexed(expireAfter = "10m")
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -4,12 +4,13 @@ import com.aarogya.auth_service.documents.enums.Role;
 import lombok.*;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 
 @Document(collection = "password_otps")
-@CompoundIndex(def = "{'email': 1, 'otp': 1}", unique = true)
+@CompoundIndex(def = "{'email': 1, 'role': 1}", unique = true)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,6 +18,8 @@ import java.time.LocalDateTime;
 @Builder
 public class PasswordResetOtp {
 
+    public static final long VALIDITY_MINUTES = 10;
+
     @Id
     private String id;
 
@@ -24,10 +27,13 @@ public class PasswordResetOtp {
     private String otp;
 
     private Role role;
+
+    // MongoDB's TTL monitor removes the document once it is older than the validity window
+    @Indexed(expireAfter = "10m")
+    @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
     public boolean isExpired() {
-        return createdAt.plusMinutes(10).isBefore(LocalDateTime.now());
+        return createdAt.plusMinutes(VALIDITY_MINUTES).isBefore(LocalDateTime.now());
     }
 }
-
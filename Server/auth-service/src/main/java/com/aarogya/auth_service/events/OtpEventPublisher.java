@@ -0,0 +1,154 @@
+package com.aarogya.auth_service.events;
+
+import com.aarogya.auth_service.documents.OtpOutboxEntry;
+import com.aarogya.auth_service.repository.OtpOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes {@link SendOtpEvent}s without holding the request thread. Each event is first written to the
+ * {@code otp_outbox} collection, then sent from a small background pool; the entry is deleted once the
+ * broker acknowledges it. Sends that fail, or never get dispatched, are retried by {@link #retryPending()}.
+ * Every send, first or retried, goes out only after this instance has claimed the entry in the outbox, so
+ * neither another replica nor a late first send can deliver the same OTP twice while the lease holds.
+ */
+@Component
+@Slf4j
+public class OtpEventPublisher {
+
+    public static final String TOPIC_NAME = "send-otp";
+
+    private static final int RETRY_BATCH_SIZE = 100;
+
+    private final KafkaTemplate<String, SendOtpEvent> otpKafkaTemplate;
+    private final OtpOutboxRepository outboxRepository;
+    private final ThreadPoolExecutor executor;
+    private final Duration retryBackoff;
+    private final Timer sendTimer;
+    private final Counter failedCounter;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public OtpEventPublisher(KafkaTemplate<String, SendOtpEvent> otpKafkaTemplate,
+                             OtpOutboxRepository outboxRepository,
+                             @Value("${otp.outbox.retry-backoff:30s}") Duration retryBackoff,
+                             MeterRegistry meterRegistry) {
+        this.otpKafkaTemplate = otpKafkaTemplate;
+        this.outboxRepository = outboxRepository;
+        this.retryBackoff = retryBackoff;
+        this.executor = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(256),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "otp-publisher");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.sendTimer = Timer.builder("auth.otp.publish.latency")
+                .description("Time from handing an OTP event to Kafka until the broker acknowledges it")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.failedCounter = meterRegistry.counter("auth.otp.publish.failed");
+        meterRegistry.gauge("auth.otp.publish.queue.size", executor, pool -> pool.getQueue().size());
+    }
+
+    public void publish(SendOtpEvent event) {
+        OtpOutboxEntry entry = outboxRepository.save(OtpOutboxEntry
+                .builder()
+                .eventKey(event.getEmail())
+                .event(event)
+                .nextAttemptAt(LocalDateTime.now().plus(retryBackoff))
+                .build());
+
+        try {
+            executor.execute(() -> sendFirstAttempt(entry.getId()));
+        } catch (RejectedExecutionException e) {
+            log.warn("OTP publisher queue is full, leaving event {} for the retry job", entry.getId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${otp.outbox.retry-interval-ms:30000}")
+    public void retryPending() {
+        int retried = 0;
+        OtpOutboxEntry entry;
+        while (retried < RETRY_BATCH_SIZE
+                && (entry = outboxRepository.claimNextDue(LocalDateTime.now(), instanceId, leaseUntil())) != null) {
+            send(entry);
+            retried++;
+        }
+        if (retried > 0) {
+            log.info("Retried {} pending OTP events", retried);
+        }
+    }
+
+    private void sendFirstAttempt(String entryId) {
+        OtpOutboxEntry entry;
+        try {
+            entry = outboxRepository.claimFirstAttempt(entryId, instanceId, leaseUntil());
+        } catch (DataAccessException e) {
+            log.warn("Could not claim OTP event {}, leaving it for the retry job", entryId, e);
+            return;
+        }
+        if (entry == null) {
+            log.debug("OTP event {} was already claimed by the retry job", entryId);
+            return;
+        }
+        send(entry);
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plus(retryBackoff);
+    }
+
+    private void send(OtpOutboxEntry entry) {
+        long startedAt = System.nanoTime();
+        try {
+            otpKafkaTemplate.send(TOPIC_NAME, entry.getEventKey(), entry.getEvent())
+                    .whenComplete((result, ex) -> {
+                        sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                        if (ex != null) {
+                            failedCounter.increment();
+                            log.error("Failed to publish OTP event {}, it will be retried", entry.getId(), ex);
+                            return;
+                        }
+                        log.debug("Published OTP event {} to partition {}", entry.getId(),
+                                result.getRecordMetadata().partition());
+                        deleteQuietly(entry);
+                    });
+        } catch (RuntimeException e) {
+            // send() throws directly when metadata cannot be fetched within max.block.ms
+            failedCounter.increment();
+            log.error("Failed to hand OTP event {} to Kafka, it will be retried", entry.getId(), e);
+        }
+    }
+
+    private void deleteQuietly(OtpOutboxEntry entry) {
+        try {
+            outboxRepository.deleteById(entry.getId());
+        } catch (DataAccessException e) {
+            log.warn("Could not remove delivered OTP event {} from the outbox", entry.getId(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
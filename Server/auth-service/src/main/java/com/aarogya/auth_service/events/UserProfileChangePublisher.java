@@ -0,0 +1,72 @@
+package com.aarogya.auth_service.events;
+
+import com.aarogya.auth_service.documents.Doctor;
+import com.aarogya.auth_service.documents.Patient;
+import com.aarogya.auth_service.documents.enums.Role;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+import static com.aarogya.auth_service.config.CacheConfig.*;
+
+/**
+ * Publishes a {@link UserProfileChangedEvent} whenever a doctor or patient document is saved, so that the
+ * consumer services can drop their cached copy of the profile instead of waiting for it to expire.
+ * The per-ID caches of this service are evicted at the same point.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class UserProfileChangePublisher extends AbstractMongoEventListener<Object> {
+
+    public static final String TOPIC_NAME = "user-profile-changed";
+
+    private final KafkaTemplate<String, UserProfileChangedEvent> profileKafkaTemplate;
+    private final CacheManager cacheManager;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Object> event) {
+        Object source = event.getSource();
+        if (source instanceof Doctor doctor) {
+            evictLocal(doctor.getId(), DOCTORS_CACHE, DOCTOR_RESPONSES_CACHE);
+            publish(doctor.getId(), Role.DOCTOR);
+        } else if (source instanceof Patient patient) {
+            evictLocal(patient.getId(), PATIENTS_CACHE, PATIENT_RESPONSES_CACHE);
+            publish(patient.getId(), Role.PATIENT);
+        }
+    }
+
+    private void evictLocal(String userId, String... cacheNames) {
+        for (String cacheName : cacheNames) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.evict(userId);
+            }
+        }
+    }
+
+    private void publish(String userId, Role role) {
+        UserProfileChangedEvent profileChangedEvent = UserProfileChangedEvent
+                .builder()
+                .userId(userId)
+                .role(role.toString())
+                .changedAt(LocalDateTime.now())
+                .build();
+
+        profileKafkaTemplate.send(TOPIC_NAME, userId, profileChangedEvent)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("Failed to publish profile change for {} {}", role, userId, ex);
+                    } else {
+                        log.debug("Published profile change for {} {}", role, userId);
+                    }
+                });
+    }
+}
@@ -0,0 +1,10 @@
+package com.aarogya.auth_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class TooManyRequests extends ResponseStatusException {
+    public TooManyRequests(String message) {
+        super(HttpStatus.TOO_MANY_REQUESTS, message);
+    }
+}
@@ -3,35 +3,61 @@ package com.aarogya.auth_service.grpc;
 import com.aarogya.auth.proto.*;
 import com.aarogya.auth_service.dto.DoctorResponseDTO;
 import com.aarogya.auth_service.dto.PatientResponseDTO;
+import com.aarogya.auth_service.exceptions.BadRequestException;
+import com.aarogya.auth_service.exceptions.ResourceNotFound;
+import com.aarogya.auth_service.mapper.DoctorMapper;
+import com.aarogya.auth_service.mapper.PatientMapper;
 import com.aarogya.auth_service.service.AuthService;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.service.GrpcService;
-import com.google.protobuf.util.Timestamps;
-import java.time.ZoneId;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.aarogya.auth_service.config.CacheConfig.DOCTOR_RESPONSES_CACHE;
+import static com.aarogya.auth_service.config.CacheConfig.PATIENT_RESPONSES_CACHE;
 
 @GrpcService
 @Slf4j
 public class UserGrpcService extends AuthServiceGrpc.AuthServiceImplBase {
 
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int STREAM_CHUNK_SIZE = 100;
+
     private final AuthService authService;
+    private final DoctorMapper doctorMapper;
+    private final PatientMapper patientMapper;
+    private final Cache doctorResponses;
+    private final Cache patientResponses;
 
-    public UserGrpcService(AuthService authService) {
+    public UserGrpcService(AuthService authService, DoctorMapper doctorMapper, PatientMapper patientMapper,
+                           CacheManager cacheManager) {
         this.authService = authService;
+        this.doctorMapper = doctorMapper;
+        this.patientMapper = patientMapper;
+        this.doctorResponses = cacheManager.getCache(DOCTOR_RESPONSES_CACHE);
+        this.patientResponses = cacheManager.getCache(PATIENT_RESPONSES_CACHE);
     }
 
     @Override
     public void getDoctorById(IdRequest request, StreamObserver<DoctorResponse> responseObserver) {
         try {
             log.info("Processing gRPC request for getDoctorById with ID: {}", request.getId());
-            DoctorResponseDTO doctor = authService.getDoctorProfileById(request.getId());
-            log.info("Sending response: {}", doctor);
-            DoctorResponse doctorResponse = mapToDoctorResponse(doctor);
+            DoctorResponse doctorResponse = doctorResponses.get(request.getId(),
+                    () -> doctorMapper.toProto(authService.getDoctorProfileById(request.getId())));
             responseObserver.onNext(doctorResponse);
             log.info("Completed gRPC request for getDoctorById with ID: {}", request.getId());
             responseObserver.onCompleted();
@@ -44,9 +70,8 @@ public class UserGrpcService extends AuthServiceGrpc.AuthServiceImplBase {
     public void getPatientById(IdRequest request, StreamObserver<PatientResponse> responseObserver) {
         try {
             log.info("Processing gRPC request for getPatientById with ID: {}", request.getId());
-            PatientResponseDTO patient = authService.getPatientProfileById(request.getId());
-            log.info("Sending response: {}", patient);
-            PatientResponse patientResponse = mapToPatientResponse(patient);
+            PatientResponse patientResponse = patientResponses.get(request.getId(),
+                    () -> patientMapper.toProto(authService.getPatientProfileById(request.getId())));
             responseObserver.onNext(patientResponse);
             log.info("Completed gRPC request for getPatientById with ID: {}", request.getId());
             responseObserver.onCompleted();
@@ -55,6 +80,86 @@ public class UserGrpcService extends AuthServiceGrpc.AuthServiceImplBase {
         }
     }
 
+    @Override
+    public void getDoctorsByIds(IdsRequest request, StreamObserver<DoctorBatchResponse> responseObserver) {
+        try {
+            Set<String> ids = new LinkedHashSet<>(request.getIdsList());
+            if (ids.size() > MAX_BATCH_SIZE) {
+                responseObserver.onError(Status.INVALID_ARGUMENT
+                        .withDescription("At most " + MAX_BATCH_SIZE + " IDs can be requested at once")
+                        .asRuntimeException());
+                return;
+            }
+            log.info("Processing gRPC request for getDoctorsByIds with {} IDs", ids.size());
+
+            DoctorBatchResponse.Builder response = DoctorBatchResponse.newBuilder();
+            Set<String> missingIds = new LinkedHashSet<>();
+            for (String id : ids) {
+                DoctorResponse cached = doctorResponses.get(id, DoctorResponse.class);
+                if (cached != null) {
+                    response.addDoctors(cached);
+                } else {
+                    missingIds.add(id);
+                }
+            }
+            if (!missingIds.isEmpty()) {
+                for (DoctorResponseDTO doctor : authService.getDoctorProfilesByIds(missingIds)) {
+                    DoctorResponse doctorResponse = doctorMapper.toProto(doctor);
+                    doctorResponses.put(doctor.getId(), doctorResponse);
+                    response.addDoctors(doctorResponse);
+                    missingIds.remove(doctor.getId());
+                }
+            }
+            response.addAllMissingIds(missingIds);
+
+            responseObserver.onNext(response.build());
+            log.info("Completed gRPC request for getDoctorsByIds, {} IDs not found", missingIds.size());
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            handleError(responseObserver, e, "getDoctorsByIds");
+        }
+    }
+
+    @Override
+    public void getPatientsByIds(IdsRequest request, StreamObserver<PatientBatchResponse> responseObserver) {
+        try {
+            Set<String> ids = new LinkedHashSet<>(request.getIdsList());
+            if (ids.size() > MAX_BATCH_SIZE) {
+                responseObserver.onError(Status.INVALID_ARGUMENT
+                        .withDescription("At most " + MAX_BATCH_SIZE + " IDs can be requested at once")
+                        .asRuntimeException());
+                return;
+            }
+            log.info("Processing gRPC request for getPatientsByIds with {} IDs", ids.size());
+
+            PatientBatchResponse.Builder response = PatientBatchResponse.newBuilder();
+            Set<String> missingIds = new LinkedHashSet<>();
+            for (String id : ids) {
+                PatientResponse cached = patientResponses.get(id, PatientResponse.class);
+                if (cached != null) {
+                    response.addPatients(cached);
+                } else {
+                    missingIds.add(id);
+                }
+            }
+            if (!missingIds.isEmpty()) {
+                for (PatientResponseDTO patient : authService.getPatientProfilesByIds(missingIds)) {
+                    PatientResponse patientResponse = patientMapper.toProto(patient);
+                    patientResponses.put(patient.getId(), patientResponse);
+                    response.addPatients(patientResponse);
+                    missingIds.remove(patient.getId());
+                }
+            }
+            response.addAllMissingIds(missingIds);
+
+            responseObserver.onNext(response.build());
+            log.info("Completed gRPC request for getPatientsByIds, {} IDs not found", missingIds.size());
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            handleError(responseObserver, e, "getPatientsByIds");
+        }
+    }
+
     @Override
     public void getDoctorsBySpecialization(SpecializationRequest request, StreamObserver<DoctorListResponse> responseObserver) {
         handleDoctorListRequest(
@@ -73,14 +178,50 @@ public class UserGrpcService extends AuthServiceGrpc.AuthServiceImplBase {
         );
     }
 
+    @Override
+    public void streamDoctorsBySpecialization(SpecializationRequest request, StreamObserver<DoctorListResponse> responseObserver) {
+        streamInChunks(
+                responseObserver,
+                () -> authService.streamDoctorsBySpecialization(request.getSpecialization()),
+                chunk -> DoctorListResponse.newBuilder()
+                        .addAllDoctors(chunk.stream().map(doctorMapper::toProto).toList())
+                        .build(),
+                "streamDoctorsBySpecialization"
+        );
+    }
+
+    @Override
+    public void streamPatientsByGender(GenderRequest request, StreamObserver<PatientListResponse> responseObserver) {
+        streamInChunks(
+                responseObserver,
+                () -> authService.streamPatientsByGender(request.getGender()),
+                chunk -> PatientListResponse.newBuilder()
+                        .addAllPatients(chunk.stream().map(patientMapper::toProto).toList())
+                        .build(),
+                "streamPatientsByGender"
+        );
+    }
 
+
+    /**
+     * Unknown IDs and bad arguments go back as NOT_FOUND and INVALID_ARGUMENT, so that the callers' auth
+     * circuit breakers, which count INTERNAL as a server failure, are not opened by ordinary misses.
+     */
     private void handleError(StreamObserver<?> responseObserver, Exception e, String methodName) {
-        log.error("Error in {}: {}", methodName, e.getMessage(), e);
-        StatusRuntimeException statusException = Status.INTERNAL
-                .withDescription("Internal server error in " + methodName)
-                .withCause(e)
-                .asRuntimeException();
-        responseObserver.onError(statusException);
+        // Failures inside the response caches' value loaders arrive wrapped
+        Throwable cause = e instanceof Cache.ValueRetrievalException && e.getCause() != null ? e.getCause() : e;
+        Status status;
+        if (cause instanceof ResourceNotFound) {
+            log.warn("Not found in {}: {}", methodName, cause.getMessage());
+            status = Status.NOT_FOUND.withDescription(cause.getMessage());
+        } else if (cause instanceof BadRequestException badRequest) {
+            log.warn("Bad request in {}: {}", methodName, badRequest.getReason());
+            status = Status.INVALID_ARGUMENT.withDescription(badRequest.getReason());
+        } else {
+            log.error("Error in {}: {}", methodName, cause.getMessage(), cause);
+            status = Status.INTERNAL.withDescription("Internal server error in " + methodName).withCause(cause);
+        }
+        responseObserver.onError(status.asRuntimeException());
     }
 
     private void handleDoctorListRequest(StreamObserver<DoctorListResponse> responseObserver,
@@ -91,7 +232,7 @@ public class UserGrpcService extends AuthServiceGrpc.AuthServiceImplBase {
             List<DoctorResponseDTO> doctors = serviceMethod.get();
             List<DoctorResponse> grpcDoctors = doctors
                     .stream()
-                    .map(this::mapToDoctorResponse)
+                    .map(doctorMapper::toProto)
                     .collect(Collectors.toUnmodifiableList());
 
             DoctorListResponse response = DoctorListResponse.newBuilder()
@@ -113,7 +254,7 @@ public class UserGrpcService extends AuthServiceGrpc.AuthServiceImplBase {
             List<PatientResponseDTO> patients = serviceMethod.get();
             List<PatientResponse> grpcPatients = patients
                     .stream()
-                    .map(this::mapToPatientResponse)
+                    .map(patientMapper::toProto)
                     .collect(Collectors.toUnmodifiableList());
 
             PatientListResponse response = PatientListResponse.newBuilder()
@@ -127,37 +268,57 @@ public class UserGrpcService extends AuthServiceGrpc.AuthServiceImplBase {
         }
     }
 
-    private DoctorResponse mapToDoctorResponse(DoctorResponseDTO doctor) {
-        return DoctorResponse.newBuilder()
-                .setId(doctor.getId())
-                .setEmail(doctor.getEmail())
-                .setFirstName(doctor.getFirstName())
-                .setLastName(doctor.getLastName())
-                .setSpecialization(doctor.getSpecialization())
-                .setLicenseNumber(doctor.getLicenseNumber())
-                .setExperienceYears(doctor.getExperienceYears())
-                .setPhone(doctor.getPhone())
-                .setAddress(doctor.getAddress())
-                .setImageUrl(doctor.getImageUrl())
-                .setCreatedAt(Timestamps.fromMillis(doctor.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()))
-                .build();
-    }
+    /**
+     * Drains a MongoDB cursor into the response stream, {@code STREAM_CHUNK_SIZE} documents per message,
+     * and only pulls the next chunk from the cursor while the transport reports it is ready. The cursor is
+     * closed on completion, failure or client cancellation, so memory stays bounded by one chunk.
+     */
+    private <T, R> void streamInChunks(StreamObserver<R> responseObserver,
+                                       Supplier<Stream<T>> source,
+                                       Function<List<T>, R> chunkMapper,
+                                       String methodName) {
+        ServerCallStreamObserver<R> serverObserver = (ServerCallStreamObserver<R>) responseObserver;
+        Stream<T> stream;
+        try {
+            log.info("Processing gRPC stream request for {}", methodName);
+            stream = source.get();
+        } catch (Exception e) {
+            handleError(responseObserver, e, methodName);
+            return;
+        }
+
+        Iterator<T> cursor = stream.iterator();
+        AtomicBoolean finished = new AtomicBoolean(false);
+
+        serverObserver.setOnCancelHandler(() -> {
+            if (finished.compareAndSet(false, true)) {
+                log.info("Client cancelled {}", methodName);
+                stream.close();
+            }
+        });
 
-    private PatientResponse mapToPatientResponse(PatientResponseDTO patient) {
-        return PatientResponse.newBuilder()
-                .setId(patient.getId())
-                .setEmail(patient.getEmail())
-                .setFirstName(patient.getFirstName())
-                .setLastName(patient.getLastName())
-                .setGender(patient.getGender())
-                .setBloodGroup(patient.getBloodGroup())
-                .setPhone(patient.getPhone())
-                .setAddress(patient.getAddress())
-                .setImageUrl(patient.getImageUrl())
-                .setDateOfBirth(patient.getDateOfBirth().toString())
-                .setEmergencyContact(patient.getEmergencyContact())
-                .setEmergencyPhone(patient.getEmergencyPhone())
-                .setCreatedAt(Timestamps.fromMillis(patient.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()))
-                .build();
+        serverObserver.setOnReadyHandler(() -> {
+            try {
+                while (serverObserver.isReady() && !finished.get()) {
+                    List<T> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+                    while (chunk.size() < STREAM_CHUNK_SIZE && cursor.hasNext()) {
+                        chunk.add(cursor.next());
+                    }
+                    if (!chunk.isEmpty()) {
+                        serverObserver.onNext(chunkMapper.apply(chunk));
+                    }
+                    if (!cursor.hasNext() && finished.compareAndSet(false, true)) {
+                        stream.close();
+                        serverObserver.onCompleted();
+                        log.info("Completed gRPC stream request for {}", methodName);
+                    }
+                }
+            } catch (Exception e) {
+                if (finished.compareAndSet(false, true)) {
+                    stream.close();
+                    handleError(responseObserver, e, methodName);
+                }
+            }
+        });
     }
 }
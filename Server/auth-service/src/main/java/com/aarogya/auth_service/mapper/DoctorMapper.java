@@ -0,0 +1,88 @@
+package com.aarogya.auth_service.mapper;
+
+import com.aarogya.auth.proto.DoctorResponse;
+import com.aarogya.auth_service.documents.Doctor;
+import com.aarogya.auth_service.documents.enums.Specialization;
+import com.aarogya.auth_service.dto.DoctorRequestDTO;
+import com.aarogya.auth_service.dto.DoctorResponseDTO;
+import org.springframework.stereotype.Component;
+
+import static com.aarogya.grpc_common.ProtoTimestamps.toTimestamp;
+
+@Component
+public class DoctorMapper {
+
+    public Doctor toEntity(DoctorRequestDTO dto) {
+        return Doctor.builder()
+                .email(dto.getEmail())
+                .firstName(dto.getFirstName())
+                .lastName(dto.getLastName())
+                .specialization(dto.getSpecialization() != null
+                        ? Specialization.valueOf(dto.getSpecialization().toUpperCase())
+                        : null)
+                .licenseNumber(dto.getLicenseNumber())
+                .experienceYears(dto.getExperienceYears())
+                .phone(dto.getPhone())
+                .address(dto.getAddress())
+                .imageUrl(dto.getImageUrl())
+                .build();
+    }
+
+    public DoctorResponseDTO toResponseDTO(Doctor entity) {
+        return DoctorResponseDTO.builder()
+                .id(entity.getId())
+                .email(entity.getEmail())
+                .firstName(entity.getFirstName())
+                .lastName(entity.getLastName())
+                .specialization(entity.getSpecialization() != null ? entity.getSpecialization().name() : null)
+                .licenseNumber(entity.getLicenseNumber())
+                .experienceYears(entity.getExperienceYears())
+                .phone(entity.getPhone())
+                .address(entity.getAddress())
+                .imageUrl(entity.getImageUrl())
+                .createdAt(entity.getCreatedAt())
+                .build();
+    }
+
+    public DoctorResponse toProto(Doctor entity) {
+        return toProto(toResponseDTO(entity));
+    }
+
+    public DoctorResponse toProto(DoctorResponseDTO dto) {
+        DoctorResponse.Builder builder = DoctorResponse.newBuilder();
+        if (dto.getId() != null) {
+            builder.setId(dto.getId());
+        }
+        if (dto.getEmail() != null) {
+            builder.setEmail(dto.getEmail());
+        }
+        if (dto.getFirstName() != null) {
+            builder.setFirstName(dto.getFirstName());
+        }
+        if (dto.getLastName() != null) {
+            builder.setLastName(dto.getLastName());
+        }
+        if (dto.getSpecialization() != null) {
+            builder.setSpecialization(dto.getSpecialization());
+        }
+        if (dto.getLicenseNumber() != null) {
+            builder.setLicenseNumber(dto.getLicenseNumber());
+        }
+        if (dto.getExperienceYears() != null) {
+            builder.setExperienceYears(dto.getExperienceYears());
+        }
+        if (dto.getPhone() != null) {
+            builder.setPhone(dto.getPhone());
+        }
+        if (dto.getAddress() != null) {
+            builder.setAddress(dto.getAddress());
+        }
+        if (dto.getImageUrl() != null) {
+            builder.setImageUrl(dto.getImageUrl());
+        }
+        if (dto.getCreatedAt() != null) {
+            builder.setCreatedAt(toTimestamp(dto.getCreatedAt()));
+        }
+        return builder.build();
+    }
+}
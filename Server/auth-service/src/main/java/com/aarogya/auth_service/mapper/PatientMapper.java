@@ -0,0 +1,95 @@
+package com.aarogya.auth_service.mapper;
+
+import com.aarogya.auth.proto.PatientResponse;
+import com.aarogya.auth_service.documents.Patient;
+import com.aarogya.auth_service.dto.PatientRequestDTO;
+import com.aarogya.auth_service.dto.PatientResponseDTO;
+import org.springframework.stereotype.Component;
+
+import static com.aarogya.grpc_common.ProtoTimestamps.toTimestamp;
+
+@Component
+public class PatientMapper {
+
+    public Patient toEntity(PatientRequestDTO dto) {
+        return Patient.builder()
+                .email(dto.getEmail())
+                .firstName(dto.getFirstName())
+                .lastName(dto.getLastName())
+                .dateOfBirth(dto.getDateOfBirth())
+                .gender(dto.getGender())
+                .bloodGroup(dto.getBloodGroup())
+                .phone(dto.getPhone())
+                .address(dto.getAddress())
+                .imageUrl(dto.getImageUrl())
+                .emergencyContact(dto.getEmergencyContact())
+                .emergencyPhone(dto.getEmergencyPhone())
+                .build();
+    }
+
+    public PatientResponseDTO toResponseDTO(Patient entity) {
+        return PatientResponseDTO.builder()
+                .id(entity.getId())
+                .email(entity.getEmail())
+                .firstName(entity.getFirstName())
+                .lastName(entity.getLastName())
+                .dateOfBirth(entity.getDateOfBirth())
+                .gender(entity.getGender())
+                .bloodGroup(entity.getBloodGroup())
+                .phone(entity.getPhone())
+                .address(entity.getAddress())
+                .imageUrl(entity.getImageUrl())
+                .emergencyContact(entity.getEmergencyContact())
+                .emergencyPhone(entity.getEmergencyPhone())
+                .createdAt(entity.getCreatedAt())
+                .build();
+    }
+
+    public PatientResponse toProto(Patient entity) {
+        return toProto(toResponseDTO(entity));
+    }
+
+    public PatientResponse toProto(PatientResponseDTO dto) {
+        PatientResponse.Builder builder = PatientResponse.newBuilder();
+        if (dto.getId() != null) {
+            builder.setId(dto.getId());
+        }
+        if (dto.getEmail() != null) {
+            builder.setEmail(dto.getEmail());
+        }
+        if (dto.getFirstName() != null) {
+            builder.setFirstName(dto.getFirstName());
+        }
+        if (dto.getLastName() != null) {
+            builder.setLastName(dto.getLastName());
+        }
+        if (dto.getDateOfBirth() != null) {
+            builder.setDateOfBirth(dto.getDateOfBirth().toString());
+        }
+        if (dto.getGender() != null) {
+            builder.setGender(dto.getGender());
+        }
+        if (dto.getBloodGroup() != null) {
+            builder.setBloodGroup(dto.getBloodGroup());
+        }
+        if (dto.getPhone() != null) {
+            builder.setPhone(dto.getPhone());
+        }
+        if (dto.getAddress() != null) {
+            builder.setAddress(dto.getAddress());
+        }
+        if (dto.getImageUrl() != null) {
+            builder.setImageUrl(dto.getImageUrl());
+        }
+        if (dto.getEmergencyContact() != null) {
+            builder.setEmergencyContact(dto.getEmergencyContact());
+        }
+        if (dto.getEmergencyPhone() != null) {
+            builder.setEmergencyPhone(dto.getEmergencyPhone());
+        }
+        if (dto.getCreatedAt() != null) {
+            builder.setCreatedAt(toTimestamp(dto.getCreatedAt()));
+        }
+        return builder.build();
+    }
+}
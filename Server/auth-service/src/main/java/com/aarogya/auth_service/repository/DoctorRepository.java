@@ -2,11 +2,14 @@ package com.aarogya.auth_service.repository;
 
 import com.aarogya.auth_service.documents.Doctor;
 import com.aarogya.auth_service.documents.enums.Specialization;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface DoctorRepository extends MongoRepository<Doctor, String> {
@@ -17,5 +20,10 @@ public interface DoctorRepository extends MongoRepository<Doctor, String> {
 
     List<Doctor> findBySpecialization(Specialization specialization);
 
+    List<Doctor> findByIdIn(Collection<String> ids);
+
+    @Meta(cursorBatchSize = 100)
+    Stream<Doctor> streamBySpecialization(Specialization specialization);
+
     boolean existsByEmail(String email);
 }
@@ -0,0 +1,9 @@
+package com.aarogya.auth_service.repository;
+
+import com.aarogya.auth_service.documents.OtpOutboxEntry;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OtpOutboxRepository extends MongoRepository<OtpOutboxEntry, String>, OtpOutboxRepositoryCustom {
+}
@@ -0,0 +1,23 @@
+package com.aarogya.auth_service.repository;
+
+import com.aarogya.auth_service.documents.OtpOutboxEntry;
+
+import java.time.LocalDateTime;
+
+/**
+ * Atomic claims on outbox entries. A claim bumps the attempt count, records the claiming instance and
+ * pushes {@code nextAttemptAt} out to the end of the lease in a single findAndModify, so an entry is only
+ * ever sent by whoever claimed it until that lease runs out.
+ */
+public interface OtpOutboxRepositoryCustom {
+
+    /**
+     * Claims a freshly written entry for its first send, unless the retry job got to it first.
+     */
+    OtpOutboxEntry claimFirstAttempt(String id, String owner, LocalDateTime leaseUntil);
+
+    /**
+     * Claims the oldest entry whose lease or backoff has run out, or returns {@code null} if none is due.
+     */
+    OtpOutboxEntry claimNextDue(LocalDateTime now, String owner, LocalDateTime leaseUntil);
+}
@@ -0,0 +1,40 @@
+package com.aarogya.auth_service.repository;
+
+import com.aarogya.auth_service.documents.OtpOutboxEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class OtpOutboxRepositoryImpl implements OtpOutboxRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public OtpOutboxEntry claimFirstAttempt(String id, String owner, LocalDateTime leaseUntil) {
+        return claim(new Query(Criteria.where("id").is(id).and("attempts").is(0)), owner, leaseUntil);
+    }
+
+    @Override
+    public OtpOutboxEntry claimNextDue(LocalDateTime now, String owner, LocalDateTime leaseUntil) {
+        // Served by the nextAttemptAt index
+        Query due = new Query(Criteria.where("nextAttemptAt").lt(now))
+                .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"));
+        return claim(due, owner, leaseUntil);
+    }
+
+    private OtpOutboxEntry claim(Query query, String owner, LocalDateTime leaseUntil) {
+        Update update = new Update()
+                .inc("attempts", 1)
+                .set("claimedBy", owner)
+                .set("nextAttemptAt", leaseUntil);
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true),
+                OtpOutboxEntry.class);
+    }
+}
@@ -1,6 +1,7 @@
 package com.aarogya.auth_service.repository;
 
 import com.aarogya.auth_service.documents.PasswordResetOtp;
+import com.aarogya.auth_service.documents.enums.Role;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +11,6 @@ import java.util.Optional;
 public interface OtpRepository extends MongoRepository<PasswordResetOtp, String> {
 
     Optional<PasswordResetOtp> findByEmailAndOtp(String email, String otp);
+
+    Optional<PasswordResetOtp> findByEmailAndRole(String email, Role role);
 }
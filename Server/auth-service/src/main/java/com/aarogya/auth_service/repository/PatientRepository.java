@@ -1,11 +1,14 @@
 package com.aarogya.auth_service.repository;
 
 import com.aarogya.auth_service.documents.Patient;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PatientRepository extends MongoRepository<Patient, String> {
@@ -14,5 +17,10 @@ public interface PatientRepository extends MongoRepository<Patient, String> {
 
     List<Patient> findByGender(String gender);
 
+    List<Patient> findByIdIn(Collection<String> ids);
+
+    @Meta(cursorBatchSize = 100)
+    Stream<Patient> streamByGender(String gender);
+
     boolean existsByEmail(String email);
 }
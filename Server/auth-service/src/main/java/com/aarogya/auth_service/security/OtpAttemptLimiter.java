@@ -0,0 +1,77 @@
+package com.aarogya.auth_service.security;
+
+import com.aarogya.auth_service.exceptions.TooManyRequests;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Counts OTP verification attempts per email in memory and rejects them once the limit is used up, so
+ * brute-force guesses are turned away before they hit MongoDB. An attempt is counted before the OTP is
+ * checked, in one atomic step, so concurrent guesses cannot all slip past the limit together. Only a
+ * successful reset clears the count; otherwise the window runs from the first attempt.
+ */
+@Component
+@Slf4j
+public class OtpAttemptLimiter {
+
+    private final Cache<String, Integer> attempts;
+    private final int maxAttempts;
+    private final Counter blockedCounter;
+
+    public OtpAttemptLimiter(@Value("${otp.attempts.max:5}") int maxAttempts,
+                             @Value("${otp.attempts.window:10m}") Duration window,
+                             @Value("${otp.attempts.maximum-size:100000}") long maximumSize,
+                             MeterRegistry meterRegistry) {
+        this.maxAttempts = maxAttempts;
+        this.attempts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new FixedWindow(window))
+                .build();
+        this.blockedCounter = meterRegistry.counter("auth.otp.blocked");
+    }
+
+    public void acquire(String email) {
+        int count = attempts.asMap().compute(key(email), (ignored, current) -> current == null ? 1 : current + 1);
+        if (count > maxAttempts) {
+            blockedCounter.increment();
+            log.warn("OTP verification blocked after {} attempts for email: {}", maxAttempts, email);
+            throw new TooManyRequests("Too many invalid OTP attempts, please try again later");
+        }
+    }
+
+    public void reset(String email) {
+        attempts.invalidate(key(email));
+    }
+
+    private static String key(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Expiry counts from the first attempt; later attempts update the count without extending the window
+    private record FixedWindow(Duration window) implements Expiry<String, Integer> {
+
+        @Override
+        public long expireAfterCreate(String key, Integer value, long currentTime) {
+            return window.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Integer value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Integer value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
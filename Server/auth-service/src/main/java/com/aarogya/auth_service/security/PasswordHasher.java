@@ -0,0 +1,108 @@
+package com.aarogya.auth_service.security;
+
+import com.aarogya.auth_service.exceptions.ServiceUnavailable;
+import com.aarogya.auth_service.util.PasswordUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs BCrypt hashing and verification on a dedicated pool sized to the core count, so that login and
+ * signup spikes cannot starve the request threads. When the queue is full the call is shed with a
+ * {@link ServiceUnavailable} instead of waiting.
+ */
+@Component
+@Slf4j
+public class PasswordHasher {
+
+    private final ThreadPoolExecutor executor;
+    private final int logRounds;
+    private final long timeoutMillis;
+    private final Timer queueWaitTimer;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(@Value("${password.bcrypt.log-rounds:10}") int logRounds,
+                          @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+                          @Value("${password.hashing.timeout-ms:5000}") long timeoutMillis,
+                          MeterRegistry meterRegistry) {
+        int poolSize = Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.logRounds = logRounds;
+        this.timeoutMillis = timeoutMillis;
+        this.queueWaitTimer = meterRegistry.timer("auth.password.queue.wait");
+        this.hashTimer = meterRegistry.timer("auth.password.hash");
+        this.verifyTimer = meterRegistry.timer("auth.password.verify");
+        this.rejectedCounter = meterRegistry.counter("auth.password.rejected");
+        meterRegistry.gauge("auth.password.queue.size", executor, pool -> pool.getQueue().size());
+    }
+
+    public String hashPassword(String password) {
+        return submit(() -> hashTimer.record(() -> PasswordUtil.hashPassword(password, logRounds)));
+    }
+
+    public boolean checkPassword(String password, String hashedPassword) {
+        return submit(() -> verifyTimer.record(() -> PasswordUtil.checkPassword(password, hashedPassword)));
+    }
+
+    private <T> T submit(Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Password hashing queue is full, shedding request");
+            throw new ServiceUnavailable("Server is busy, please try again shortly");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailable("Password processing timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceUnavailable("Password processing was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password processing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
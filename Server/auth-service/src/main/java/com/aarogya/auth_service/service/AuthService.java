@@ -1,8 +1,12 @@
 package com.aarogya.auth_service.service;
 
+import com.aarogya.auth_service.documents.Doctor;
+import com.aarogya.auth_service.documents.Patient;
 import com.aarogya.auth_service.dto.*;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface AuthService {
 
@@ -22,7 +26,15 @@ public interface AuthService {
 
     PatientResponseDTO getPatientProfileById(String id);
 
+    List<DoctorResponseDTO> getDoctorProfilesByIds(Collection<String> ids);
+
+    List<PatientResponseDTO> getPatientProfilesByIds(Collection<String> ids);
+
     List<DoctorResponseDTO> getDoctorsBySpecialization(String specialization);
 
     List<PatientResponseDTO> getPatientsByGender(String gender);
+
+    Stream<Doctor> streamDoctorsBySpecialization(String specialization);
+
+    Stream<Patient> streamPatientsByGender(String gender);
 }
@@ -6,30 +6,36 @@ import com.aarogya.auth_service.documents.Patient;
 import com.aarogya.auth_service.documents.enums.Role;
 import com.aarogya.auth_service.documents.enums.Specialization;
 import com.aarogya.auth_service.dto.*;
+import com.aarogya.auth_service.events.OtpEventPublisher;
 import com.aarogya.auth_service.events.SendOtpEvent;
 import com.aarogya.auth_service.exceptions.*;
+import com.aarogya.auth_service.mapper.DoctorMapper;
+import com.aarogya.auth_service.mapper.PatientMapper;
 import com.aarogya.auth_service.repository.DoctorRepository;
 import com.aarogya.auth_service.repository.OtpRepository;
 import com.aarogya.auth_service.repository.PatientRepository;
 import com.aarogya.auth_service.security.JwtService;
+import com.aarogya.auth_service.security.OtpAttemptLimiter;
+import com.aarogya.auth_service.security.PasswordHasher;
 import com.aarogya.auth_service.service.AuthService;
 import com.aarogya.auth_service.util.GenerateOtp;
-import com.aarogya.auth_service.util.PasswordUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.MappingException;
-import org.modelmapper.ModelMapper;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.dao.DataAccessException;
-import org.springframework.kafka.KafkaException;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.aarogya.auth_service.config.CacheConfig.*;
 
 @Service
 @Slf4j
@@ -38,15 +44,20 @@ public class AuthServiceImpl implements AuthService {
 
     private final DoctorRepository doctorRepository;
     private final PatientRepository patientRepository;
-    private final ModelMapper modelMapper;
+    private final DoctorMapper doctorMapper;
+    private final PatientMapper patientMapper;
     private final JwtService jwtService;
+    private final PasswordHasher passwordHasher;
     private final OtpRepository otpRepository;
-    private final KafkaTemplate<String, SendOtpEvent> otpKafkaTemplate;
-    private static final String topicName = "send-otp";
+    private final OtpAttemptLimiter otpAttemptLimiter;
+    private final OtpEventPublisher otpEventPublisher;
 
     @Override
     @Transactional
-    @CacheEvict(value = "doctors", allEntries = true)
+    @Caching(
+            put = @CachePut(value = DOCTORS_CACHE, key = "#result.id"),
+            evict = @CacheEvict(value = DOCTORS_BY_SPECIALIZATION_CACHE, key = "#doctorRequestDTO.specialization.toUpperCase()")
+    )
     public DoctorResponseDTO registerDoctor(DoctorRequestDTO doctorRequestDTO) {
         try {
             log.info("Processing signup request of doctor for email: {}", doctorRequestDTO.getEmail());
@@ -63,21 +74,17 @@ public class AuthServiceImpl implements AuthService {
                 throw new ResourceConflictException("Doctor already exists with email: " + doctorRequestDTO.getEmail());
             }
 
-            Doctor doctor = modelMapper.map(doctorRequestDTO, Doctor.class);
-            doctor.setSpecialization(Specialization.valueOf(doctorRequestDTO.getSpecialization().toUpperCase()));
-            doctor.setPassword(PasswordUtil.hashPassword(doctorRequestDTO.getPassword()));
+            Doctor doctor = doctorMapper.toEntity(doctorRequestDTO);
+            doctor.setPassword(passwordHasher.hashPassword(doctorRequestDTO.getPassword()));
 
             Doctor savedDoctor = doctorRepository.save(doctor);
             log.info("Doctor successfully signed up with ID: {}", savedDoctor.getId());
 
-            return modelMapper.map(savedDoctor, DoctorResponseDTO.class);
+            return doctorMapper.toResponseDTO(savedDoctor);
 
         } catch (DataAccessException ex) {
             log.error("Database error during signup for email: {}", doctorRequestDTO.getEmail(), ex);
             throw new DataIntegrityViolation("Failed to create user due to database error");
-        } catch (MappingException ex) {
-            log.error("Mapping error during signup", ex);
-            throw new IllegalState("Failed to map user data");
         } catch (Exception ex) {
             log.error("Error during signup", ex);
             throw new ServiceUnavailable("Failed to sign up patient");
@@ -103,7 +110,7 @@ public class AuthServiceImpl implements AuthService {
                         return new ResourceNotFound("Doctor not found with email: " + loginRequestDto.getEmail());
                     });
 
-            if (!PasswordUtil.checkPassword(loginRequestDto.getPassword(), doctor.getPassword())) {
+            if (!passwordHasher.checkPassword(loginRequestDto.getPassword(), doctor.getPassword())) {
                 log.warn("Login failed: Invalid password for email - {}", loginRequestDto.getEmail());
                 throw new ResourceConflictException("Invalid credentials");
             }
@@ -112,7 +119,7 @@ public class AuthServiceImpl implements AuthService {
             log.info("Doctor successfully logged in with ID: {}", doctor.getId());
 
             LoginDoctorResponse response = new LoginDoctorResponse();
-            response.setDoctor(modelMapper.map(doctor, DoctorResponseDTO.class));
+            response.setDoctor(doctorMapper.toResponseDTO(doctor));
             response.setToken(token);
 
             return response;
@@ -127,7 +134,10 @@ public class AuthServiceImpl implements AuthService {
     }
     @Override
     @Transactional
-    @CacheEvict(value = "patients", allEntries = true)
+    @Caching(
+            put = @CachePut(value = PATIENTS_CACHE, key = "#result.id"),
+            evict = @CacheEvict(value = PATIENTS_BY_GENDER_CACHE, key = "#patientRequestDTO.gender", condition = "#patientRequestDTO.gender != null")
+    )
     public PatientResponseDTO registerPatient(PatientRequestDTO patientRequestDTO) {
         try {
             log.info("Processing signup request of patient for email: {}", patientRequestDTO.getEmail());
@@ -145,20 +155,17 @@ public class AuthServiceImpl implements AuthService {
                 throw new ResourceConflictException("Patient already exists with email: " + patientRequestDTO.getEmail());
             }
 
-            Patient patient = modelMapper.map(patientRequestDTO, Patient.class);
-            patient.setPassword(PasswordUtil.hashPassword(patientRequestDTO.getPassword()));
+            Patient patient = patientMapper.toEntity(patientRequestDTO);
+            patient.setPassword(passwordHasher.hashPassword(patientRequestDTO.getPassword()));
 
             Patient savedPatient = patientRepository.save(patient);
             log.info("Patient successfully signed up with ID: {}", savedPatient.getId());
 
-            return modelMapper.map(savedPatient, PatientResponseDTO.class);
+            return patientMapper.toResponseDTO(savedPatient);
 
         } catch (DataAccessException ex) {
             log.error("Database error during signup for email: {}", patientRequestDTO.getEmail(), ex);
             throw new DataIntegrityViolation("Failed to create patient due to database error");
-        } catch (MappingException ex) {
-            log.error("Mapping error during signup", ex);
-            throw new IllegalState("Failed to map patient data");
         } catch (Exception ex) {
             log.error("Error during signup", ex);
             throw new ServiceUnavailable("Failed to sign up patient");
@@ -185,7 +192,7 @@ public class AuthServiceImpl implements AuthService {
                         return new ResourceNotFound("Doctor not found with email: " + loginRequestDto.getEmail());
                     });
 
-            if (!PasswordUtil.checkPassword(loginRequestDto.getPassword(), patient.getPassword())) {
+            if (!passwordHasher.checkPassword(loginRequestDto.getPassword(), patient.getPassword())) {
                 log.warn("Login failed: Invalid password for email - {}", loginRequestDto.getEmail());
                 throw new ResourceConflictException("Invalid credentials");
             }
@@ -194,7 +201,7 @@ public class AuthServiceImpl implements AuthService {
             log.info("Patient successfully logged in with ID: {}", patient.getId());
 
             LoginPatientResponse response = new LoginPatientResponse();
-            response.setPatient(modelMapper.map(patient, PatientResponseDTO.class));
+            response.setPatient(patientMapper.toResponseDTO(patient));
             response.setToken(token);
 
             return response;
@@ -210,6 +217,9 @@ public class AuthServiceImpl implements AuthService {
     @Override
     @Transactional
     public void resetPassword(OtpVerificationRequest request) {
+        if (request.getEmail() != null && !request.getEmail().isBlank()) {
+            otpAttemptLimiter.acquire(request.getEmail());
+        }
         try {
             if (request.getEmail() == null || request.getEmail().isBlank()) {
                 throw new BadRequestException("Email is required");
@@ -235,7 +245,7 @@ public class AuthServiceImpl implements AuthService {
                     Doctor doctor = doctorRepository.findByEmail(request.getEmail())
                             .orElseThrow(() -> new ResourceNotFound("Doctor not found with email: " + request.getEmail()));
 
-                    doctor.setPassword(PasswordUtil.hashPassword(request.getNewPassword()));
+                    doctor.setPassword(passwordHasher.hashPassword(request.getNewPassword()));
                     doctorRepository.save(doctor);
                     break;
 
@@ -243,7 +253,7 @@ public class AuthServiceImpl implements AuthService {
                     Patient patient = patientRepository.findByEmail(request.getEmail())
                             .orElseThrow(() -> new ResourceNotFound("Patient not found with email: " + request.getEmail()));
 
-                    patient.setPassword(PasswordUtil.hashPassword(request.getNewPassword()));
+                    patient.setPassword(passwordHasher.hashPassword(request.getNewPassword()));
                     patientRepository.save(patient);
                     break;
 
@@ -252,6 +262,7 @@ public class AuthServiceImpl implements AuthService {
             }
 
             otpRepository.delete(otpEntry);
+            otpAttemptLimiter.reset(request.getEmail());
             log.info("Password reset successful for {}", request.getEmail());
         } catch (DataAccessException ex) {
             log.error("Database error during password reset for email: {}", request.getEmail(), ex);
@@ -297,12 +308,15 @@ public class AuthServiceImpl implements AuthService {
             }
 
             String otp = GenerateOtp.generateOtp();
-            PasswordResetOtp passwordResetOtp = PasswordResetOtp
-                    .builder()
-                    .role(userRole)
-                    .email(email)
-                    .otp(otp)
-                    .build();
+            // One live OTP per email and role: a repeated request overwrites the previous code
+            PasswordResetOtp passwordResetOtp = otpRepository.findByEmailAndRole(email, userRole)
+                    .orElseGet(() -> PasswordResetOtp
+                            .builder()
+                            .role(userRole)
+                            .email(email)
+                            .build());
+            passwordResetOtp.setOtp(otp);
+            passwordResetOtp.setCreatedAt(LocalDateTime.now());
             otpRepository.save(passwordResetOtp);
             log.info("OTP generated for forgot password request for email: {}", email);
             SendOtpEvent sendOtpEvent = SendOtpEvent
@@ -315,14 +329,11 @@ public class AuthServiceImpl implements AuthService {
                     .purpose("Password Reset")
                     .generatedAt(LocalDateTime.now())
                     .build();
-            otpKafkaTemplate.send(topicName, sendOtpEvent.getOtp(), sendOtpEvent);
-            log.info("Kafka message sent for forgot password request for email: {}", email);
+            otpEventPublisher.publish(sendOtpEvent);
+            log.info("OTP event queued for forgot password request for email: {}", email);
         } catch (DataAccessException ex) {
             log.error("Database error during forgot password request for email: {}", email, ex);
             throw new DataIntegrityViolation("Unable to process forgot password request at this time");
-        } catch (KafkaException ex) {
-            log.error("Kafka error during forgot password request for email: {}", email, ex);
-            throw new ServiceUnavailable("Unable to process forgot password request at this time");
         } catch (Exception ex) {
             log.error("Error during forgot password request", ex);
             throw new ServiceUnavailable("Unable to process forgot password request at this time");
@@ -330,7 +341,7 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    @Cacheable(value = "doctors", key = "#id")
+    @Cacheable(value = DOCTORS_CACHE, key = "#id")
     @Transactional(readOnly = true)
     public DoctorResponseDTO getDoctorProfileById(String id) {
         try {
@@ -346,13 +357,12 @@ public class AuthServiceImpl implements AuthService {
                         return new ResourceNotFound("Doctor not found with ID: " + id);
                     });
 
-            return modelMapper.map(doctor, DoctorResponseDTO.class);
+            return doctorMapper.toResponseDTO(doctor);
+        } catch (ResourceNotFound | BadRequestException ex) {
+            throw ex;
         } catch (DataAccessException ex) {
             log.error("Database error during fetching doctor profile for ID: {}", id, ex);
             throw new ServiceUnavailable("Unable to fetch doctor profile at this time");
-        } catch (MappingException ex) {
-            log.error("Mapping error during fetching doctor profile for ID: {}", id, ex);
-            throw new ServiceUnavailable("Unable to fetch doctor profile at this time");
         } catch (Exception ex) {
             log.error("Error during fetching doctor profile for ID: {}", id, ex);
             throw new ServiceUnavailable("Unable to fetch doctor profile at this time");
@@ -361,7 +371,7 @@ public class AuthServiceImpl implements AuthService {
 
 
     @Override
-    @Cacheable(value = "patients", key = "#id")
+    @Cacheable(value = PATIENTS_CACHE, key = "#id")
     @Transactional(readOnly = true)
     public PatientResponseDTO getPatientProfileById(String id) {
         try {
@@ -377,13 +387,12 @@ public class AuthServiceImpl implements AuthService {
                         return new ResourceNotFound("Patient not found with ID: " + id);
                     });
 
-            return modelMapper.map(patient, PatientResponseDTO.class);
+            return patientMapper.toResponseDTO(patient);
+        } catch (ResourceNotFound | BadRequestException ex) {
+            throw ex;
         } catch (DataAccessException ex) {
             log.error("Database error during fetching doctor profile for ID: {}", id, ex);
             throw new ServiceUnavailable("Unable to fetch doctor profile at this time");
-        } catch (MappingException ex) {
-            log.error("Mapping error during fetching doctor profile for ID: {}", id, ex);
-            throw new ServiceUnavailable("Unable to fetch doctor profile at this time");
         } catch (Exception ex) {
             log.error("Error during fetching doctor profile for ID: {}", id, ex);
             throw new ServiceUnavailable("Unable to fetch doctor profile at this time");
@@ -392,28 +401,68 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "doctors", key = "#specialization")
+    public List<DoctorResponseDTO> getDoctorProfilesByIds(Collection<String> ids) {
+        try {
+            log.info("Fetching {} doctor profiles by ID", ids.size());
+
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+
+            List<Doctor> doctors = doctorRepository.findByIdIn(ids);
+
+            log.info("{} of {} doctor profiles found", doctors.size(), ids.size());
+            return doctors.stream()
+                    .map(doctorMapper::toResponseDTO)
+                    .collect(Collectors.toList());
+        } catch (DataAccessException ex) {
+            log.error("Database error during fetching doctor profiles for IDs: {}", ids, ex);
+            throw new ServiceUnavailable("Unable to fetch doctor profiles at this time");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PatientResponseDTO> getPatientProfilesByIds(Collection<String> ids) {
+        try {
+            log.info("Fetching {} patient profiles by ID", ids.size());
+
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+
+            List<Patient> patients = patientRepository.findByIdIn(ids);
+
+            log.info("{} of {} patient profiles found", patients.size(), ids.size());
+            return patients.stream()
+                    .map(patientMapper::toResponseDTO)
+                    .collect(Collectors.toList());
+        } catch (DataAccessException ex) {
+            log.error("Database error during fetching patient profiles for IDs: {}", ids, ex);
+            throw new ServiceUnavailable("Unable to fetch patient profiles at this time");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = DOCTORS_BY_SPECIALIZATION_CACHE, key = "#specialization.toUpperCase()")
     public List<DoctorResponseDTO> getDoctorsBySpecialization(String specialization) {
         log.info("Fetching doctors by specialization: {}", specialization);
         try {
             if (specialization == null || specialization.isBlank()) {
                 throw new BadRequestException("Specialization is required");
             }
-            List<Doctor> doctors = doctorRepository
-                    .findBySpecialization(Specialization
-                            .valueOf(specialization
-                                    .toUpperCase()));
+            List<Doctor> doctors = doctorRepository.findBySpecialization(parseSpecialization(specialization));
 
             log.info("{} Doctors found for specialization: {}",doctors.size(), specialization);
             return doctors.stream()
-                    .map(doctor -> modelMapper.map(doctor, DoctorResponseDTO.class))
+                    .map(doctorMapper::toResponseDTO)
                     .collect(Collectors.toList());
+        } catch (BadRequestException ex) {
+            throw ex;
         } catch (DataAccessException ex) {
             log.error("Database error during fetching doctors by specialization: {}", specialization, ex);
             throw new ServiceUnavailable("Unable to fetch doctors at this time");
-        } catch (MappingException ex) {
-            log.error("Mapping error during fetching doctors by specialization: {}", specialization, ex);
-            throw new ServiceUnavailable("Unable to fetch doctors at this time");
         } catch (Exception ex) {
             log.error("Error during fetching doctors by specialization: {}", specialization, ex);
             throw new ServiceUnavailable("Unable to fetch doctors at this time");
@@ -422,7 +471,7 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "patients", key = "#gender")
+    @Cacheable(value = PATIENTS_BY_GENDER_CACHE, key = "#gender")
     public List<PatientResponseDTO> getPatientsByGender(String gender) {
         log.info("Fetching patients by gender: {}", gender);
         try {
@@ -434,17 +483,50 @@ public class AuthServiceImpl implements AuthService {
 
             log.info("{} Patients found for gender: {}",patients.size(), gender);
             return patients.stream()
-                    .map(patient -> modelMapper.map(patient, PatientResponseDTO.class))
+                    .map(patientMapper::toResponseDTO)
                     .collect(Collectors.toList());
         } catch (DataAccessException ex) {
             log.error("Database error during fetching patients by gender: {}", gender, ex);
             throw new ServiceUnavailable("Unable to fetch patients at this time");
-        } catch (MappingException ex) {
-            log.error("Mapping error during fetching patients by gender: {}", gender, ex);
-            throw new ServiceUnavailable("Unable to fetch patients at this time");
         } catch (Exception ex) {
             log.error("Error during fetching patients by gender: {}", gender, ex);
             throw new ServiceUnavailable("Unable to fetch patients at this time");
         }
     }
+
+    @Override
+    public Stream<Doctor> streamDoctorsBySpecialization(String specialization) {
+        log.info("Streaming doctors by specialization: {}", specialization);
+        if (specialization == null || specialization.isBlank()) {
+            throw new BadRequestException("Specialization is required");
+        }
+        try {
+            return doctorRepository.streamBySpecialization(parseSpecialization(specialization));
+        } catch (DataAccessException ex) {
+            log.error("Database error during streaming doctors by specialization: {}", specialization, ex);
+            throw new ServiceUnavailable("Unable to fetch doctors at this time");
+        }
+    }
+
+    private static Specialization parseSpecialization(String specialization) {
+        try {
+            return Specialization.valueOf(specialization.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Unknown specialization: " + specialization);
+        }
+    }
+
+    @Override
+    public Stream<Patient> streamPatientsByGender(String gender) {
+        log.info("Streaming patients by gender: {}", gender);
+        if (gender == null || gender.isBlank()) {
+            throw new BadRequestException("Gender is required");
+        }
+        try {
+            return patientRepository.streamByGender(gender);
+        } catch (DataAccessException ex) {
+            log.error("Database error during streaming patients by gender: {}", gender, ex);
+            throw new ServiceUnavailable("Unable to fetch patients at this time");
+        }
+    }
 }
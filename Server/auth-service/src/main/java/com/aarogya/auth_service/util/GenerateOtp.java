@@ -1,12 +1,13 @@
 package com.aarogya.auth_service.util;
 
-import java.util.Random;
+import java.security.SecureRandom;
 
 public class GenerateOtp {
 
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     public static String generateOtp() {
-        Random random = new Random();
-        int otp = random.nextInt(10000);
+        int otp = RANDOM.nextInt(10000);
         return String.format("%04d", otp);
     }
 }
@@ -8,6 +8,10 @@ public class PasswordUtil {
         return BCrypt.hashpw(password, BCrypt.gensalt());
     }
 
+    public static String hashPassword(String password, int logRounds) {
+        return BCrypt.hashpw(password, BCrypt.gensalt(logRounds));
+    }
+
     public static boolean checkPassword(String password, String hashedPassword) {
         return BCrypt.checkpw(password, hashedPassword);
     }
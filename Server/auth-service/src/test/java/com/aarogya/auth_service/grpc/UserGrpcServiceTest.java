@@ -0,0 +1,100 @@
+package com.aarogya.auth_service.grpc;
+
+import com.aarogya.auth.proto.DoctorListResponse;
+import com.aarogya.auth.proto.DoctorResponse;
+import com.aarogya.auth.proto.IdRequest;
+import com.aarogya.auth.proto.PatientResponse;
+import com.aarogya.auth.proto.SpecializationRequest;
+import com.aarogya.auth_service.exceptions.BadRequestException;
+import com.aarogya.auth_service.exceptions.ResourceNotFound;
+import com.aarogya.auth_service.exceptions.ServiceUnavailable;
+import com.aarogya.auth_service.mapper.DoctorMapper;
+import com.aarogya.auth_service.mapper.PatientMapper;
+import com.aarogya.auth_service.service.AuthService;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserGrpcServiceTest {
+
+    private final AuthService authService = mock(AuthService.class);
+    private final UserGrpcService userGrpcService = new UserGrpcService(authService, new DoctorMapper(),
+            new PatientMapper(), new ConcurrentMapCacheManager());
+
+    @Test
+    void unknownDoctorIsNotFound() {
+        when(authService.getDoctorProfileById("missing")).thenThrow(new ResourceNotFound("Doctor not found with ID: missing"));
+        RecordingObserver<DoctorResponse> observer = new RecordingObserver<>();
+
+        userGrpcService.getDoctorById(IdRequest.newBuilder().setId("missing").build(), observer);
+
+        assertThat(observer.status().getCode()).isEqualTo(Status.Code.NOT_FOUND);
+        assertThat(observer.status().getDescription()).isEqualTo("Doctor not found with ID: missing");
+    }
+
+    @Test
+    void unknownPatientIsNotFound() {
+        when(authService.getPatientProfileById("missing")).thenThrow(new ResourceNotFound("Patient not found with ID: missing"));
+        RecordingObserver<PatientResponse> observer = new RecordingObserver<>();
+
+        userGrpcService.getPatientById(IdRequest.newBuilder().setId("missing").build(), observer);
+
+        assertThat(observer.status().getCode()).isEqualTo(Status.Code.NOT_FOUND);
+    }
+
+    @Test
+    void unknownSpecializationIsInvalidArgument() {
+        when(authService.getDoctorsBySpecialization("cardiolgy"))
+                .thenThrow(new BadRequestException("Unknown specialization: cardiolgy"));
+        RecordingObserver<DoctorListResponse> observer = new RecordingObserver<>();
+
+        userGrpcService.getDoctorsBySpecialization(
+                SpecializationRequest.newBuilder().setSpecialization("cardiolgy").build(), observer);
+
+        assertThat(observer.status().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+        assertThat(observer.status().getDescription()).isEqualTo("Unknown specialization: cardiolgy");
+    }
+
+    @Test
+    void serverFailuresStayInternal() {
+        when(authService.getDoctorProfileById("d-1")).thenThrow(new ServiceUnavailable("Unable to fetch doctor profile at this time"));
+        RecordingObserver<DoctorResponse> observer = new RecordingObserver<>();
+
+        userGrpcService.getDoctorById(IdRequest.newBuilder().setId("d-1").build(), observer);
+
+        assertThat(observer.status().getCode()).isEqualTo(Status.Code.INTERNAL);
+    }
+
+    private static class RecordingObserver<T> implements StreamObserver<T> {
+
+        private final List<T> values = new ArrayList<>();
+        private Throwable error;
+
+        @Override
+        public void onNext(T value) {
+            values.add(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+
+        Status status() {
+            assertThat(values).isEmpty();
+            return Status.fromThrowable(error);
+        }
+    }
+}
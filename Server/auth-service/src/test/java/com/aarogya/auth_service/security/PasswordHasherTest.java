@@ -0,0 +1,89 @@
+package com.aarogya.auth_service.security;
+
+import com.aarogya.auth_service.exceptions.ServiceUnavailable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        if (passwordHasher != null) {
+            passwordHasher.shutdown();
+        }
+    }
+
+    @Test
+    void hashesAndVerifiesOnThePool() {
+        passwordHasher = new PasswordHasher(4, 8, 5000, meterRegistry);
+
+        String hash = passwordHasher.hashPassword("secret");
+
+        assertThat(hash).startsWith("$2a$04$");
+        assertThat(passwordHasher.checkPassword("secret", hash)).isTrue();
+        assertThat(passwordHasher.checkPassword("wrong", hash)).isFalse();
+        assertThat(meterRegistry.timer("auth.password.hash").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("auth.password.verify").count()).isEqualTo(2);
+    }
+
+    @Test
+    void shedsCallsOnceWorkersAndQueueAreFull() throws Exception {
+        int queueCapacity = 1;
+        // Cost 13 keeps every worker busy for well over the time it takes to submit the burst
+        passwordHasher = new PasswordHasher(13, queueCapacity, 30_000, meterRegistry);
+        int capacity = Runtime.getRuntime().availableProcessors() + queueCapacity;
+        int callers = capacity + 4;
+
+        ExecutorService callerPool = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> calls = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                calls.add(callerPool.submit(() -> {
+                    start.await();
+                    try {
+                        passwordHasher.hashPassword("secret");
+                    } catch (ServiceUnavailable e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> call : calls) {
+                call.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            callerPool.shutdownNow();
+        }
+
+        assertThat(rejected.get()).isGreaterThanOrEqualTo(callers - capacity);
+        assertThat(meterRegistry.counter("auth.password.rejected").count()).isEqualTo(rejected.get());
+    }
+
+    @Test
+    void failsFastWhenHashingOutlivesTheTimeout() {
+        passwordHasher = new PasswordHasher(14, 8, 1, meterRegistry);
+
+        assertThatThrownBy(() -> passwordHasher.hashPassword("secret"))
+                .isInstanceOf(ServiceUnavailable.class)
+                .hasMessageContaining("timed out");
+    }
+}
@@ -0,0 +1,151 @@
+package com.aarogya.auth_service.service.implementation;
+
+import com.aarogya.auth_service.documents.PasswordResetOtp;
+import com.aarogya.auth_service.documents.Patient;
+import com.aarogya.auth_service.documents.enums.Role;
+import com.aarogya.auth_service.dto.OtpVerificationRequest;
+import com.aarogya.auth_service.events.OtpEventPublisher;
+import com.aarogya.auth_service.exceptions.BadRequestException;
+import com.aarogya.auth_service.exceptions.ResourceNotFound;
+import com.aarogya.auth_service.exceptions.TooManyRequests;
+import com.aarogya.auth_service.mapper.DoctorMapper;
+import com.aarogya.auth_service.mapper.PatientMapper;
+import com.aarogya.auth_service.repository.DoctorRepository;
+import com.aarogya.auth_service.repository.OtpRepository;
+import com.aarogya.auth_service.repository.PatientRepository;
+import com.aarogya.auth_service.security.JwtService;
+import com.aarogya.auth_service.security.OtpAttemptLimiter;
+import com.aarogya.auth_service.security.PasswordHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceImplTest {
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final String EMAIL = "ravi.kumar@example.com";
+
+    private final OtpRepository otpRepository = mock(OtpRepository.class);
+    private final PatientRepository patientRepository = mock(PatientRepository.class);
+    private final DoctorRepository doctorRepository = mock(DoctorRepository.class);
+    private final PasswordHasher passwordHasher = mock(PasswordHasher.class);
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    void setUp() {
+        OtpAttemptLimiter otpAttemptLimiter = new OtpAttemptLimiter(MAX_ATTEMPTS, Duration.ofMinutes(10), 1000,
+                new SimpleMeterRegistry());
+        authService = new AuthServiceImpl(doctorRepository, patientRepository, new DoctorMapper(),
+                new PatientMapper(), mock(JwtService.class), passwordHasher, otpRepository, otpAttemptLimiter,
+                mock(OtpEventPublisher.class));
+    }
+
+    @Test
+    void concurrentWrongOtpsReachTheRepositoryAtMostMaxAttemptsTimes() throws Exception {
+        when(otpRepository.findByEmailAndOtp(eq(EMAIL), anyString())).thenAnswer(invocation -> {
+            // Hold each lookup open so that the guesses overlap
+            Thread.sleep(20);
+            return Optional.empty();
+        });
+
+        int guesses = 40;
+        ExecutorService attackers = Executors.newFixedThreadPool(guesses);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger blocked = new AtomicInteger();
+        List<Future<?>> calls = new ArrayList<>();
+        try {
+            for (int i = 0; i < guesses; i++) {
+                String otp = String.format("%04d", i);
+                calls.add(attackers.submit(() -> {
+                    start.await();
+                    try {
+                        authService.resetPassword(new OtpVerificationRequest(EMAIL, otp, "new-password"));
+                    } catch (TooManyRequests e) {
+                        blocked.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        // A wrong OTP that was allowed through
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> call : calls) {
+                call.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            attackers.shutdownNow();
+        }
+
+        verify(otpRepository, times(MAX_ATTEMPTS)).findByEmailAndOtp(eq(EMAIL), anyString());
+        assertThat(blocked.get()).isEqualTo(guesses - MAX_ATTEMPTS);
+    }
+
+    @Test
+    void successfulResetClearsTheAttempts() {
+        when(otpRepository.findByEmailAndOtp(EMAIL, "0000")).thenReturn(Optional.empty());
+        when(otpRepository.findByEmailAndOtp(EMAIL, "4321")).thenReturn(Optional.of(
+                PasswordResetOtp.builder().email(EMAIL).otp("4321").role(Role.PATIENT).build()));
+        when(patientRepository.findByEmail(EMAIL)).thenReturn(Optional.of(Patient.builder().email(EMAIL).build()));
+        when(passwordHasher.hashPassword(any())).thenReturn("hashed");
+
+        for (int i = 0; i < MAX_ATTEMPTS - 1; i++) {
+            attempt("0000");
+        }
+        authService.resetPassword(new OtpVerificationRequest(EMAIL, "4321", "new-password"));
+
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            attempt("0000");
+        }
+        assertThatThrownBy(() -> attempt("0000")).isInstanceOf(TooManyRequests.class);
+        verify(otpRepository, times(2 * MAX_ATTEMPTS - 1)).findByEmailAndOtp(EMAIL, "0000");
+    }
+
+    @Test
+    void unknownProfilesAreNotFoundRatherThanUnavailable() {
+        when(doctorRepository.findById("missing")).thenReturn(Optional.empty());
+        when(patientRepository.findById("missing")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> authService.getDoctorProfileById("missing")).isInstanceOf(ResourceNotFound.class);
+        assertThatThrownBy(() -> authService.getPatientProfileById("missing")).isInstanceOf(ResourceNotFound.class);
+    }
+
+    @Test
+    void unknownSpecializationIsABadRequest() {
+        assertThatThrownBy(() -> authService.getDoctorsBySpecialization("cardiolgy"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Unknown specialization: cardiolgy");
+        assertThatThrownBy(() -> authService.streamDoctorsBySpecialization("cardiolgy"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private void attempt(String otp) {
+        try {
+            authService.resetPassword(new OtpVerificationRequest(EMAIL, otp, "new-password"));
+        } catch (TooManyRequests e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // Wrong OTP
+        }
+    }
+}
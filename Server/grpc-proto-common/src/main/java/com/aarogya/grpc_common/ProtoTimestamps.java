@@ -0,0 +1,46 @@
+package com.aarogya.grpc_common;
+
+import com.google.protobuf.Timestamp;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Converts between {@code java.time} values and {@link Timestamp} for every service that sends or reads
+ * them, so both ends of a call agree. Local values are read in the system zone; dates travel as the start
+ * of that day. Writer and reader must therefore run in the same zone.
+ */
+public final class ProtoTimestamps {
+
+    private ProtoTimestamps() {
+    }
+
+    public static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return toTimestamp(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    public static Timestamp toTimestamp(LocalDate date) {
+        return toTimestamp(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    public static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return LocalDateTime.ofInstant(toInstant(timestamp), ZoneId.systemDefault());
+    }
+
+    public static LocalDate toLocalDate(Timestamp timestamp) {
+        return LocalDate.ofInstant(toInstant(timestamp), ZoneId.systemDefault());
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+    }
+}
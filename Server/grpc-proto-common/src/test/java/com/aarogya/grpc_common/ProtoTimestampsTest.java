@@ -0,0 +1,80 @@
+package com.aarogya.grpc_common;
+
+import com.google.protobuf.Timestamp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProtoTimestampsTest {
+
+    // Whole-hour, half-hour and daylight-saving zones; Santiago also skips midnight on some days
+    private static final List<ZoneId> ZONES = List.of(ZoneId.of("UTC"), ZoneId.of("Asia/Kolkata"),
+            ZoneId.of("America/New_York"), ZoneId.of("America/Santiago"), ZoneId.of("Pacific/Kiritimati"));
+
+    private final Random random = new Random(20260314L);
+    private TimeZone defaultTimeZone;
+
+    @BeforeEach
+    void saveTimeZone() {
+        defaultTimeZone = TimeZone.getDefault();
+    }
+
+    @AfterEach
+    void restoreTimeZone() {
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    @Test
+    void generatedDateTimesSurviveTheRoundTrip() {
+        for (ZoneId zone : ZONES) {
+            TimeZone.setDefault(TimeZone.getTimeZone(zone));
+            for (int i = 0; i < 2_000; i++) {
+                LocalDateTime dateTime = randomDateTime();
+                if (zone.getRules().getValidOffsets(dateTime).isEmpty()) {
+                    continue;  // skipped by a clock change, so there is no instant to send
+                }
+                assertThat(ProtoTimestamps.toLocalDateTime(ProtoTimestamps.toTimestamp(dateTime)))
+                        .as("%s in %s", dateTime, zone)
+                        .isEqualTo(dateTime);
+            }
+        }
+    }
+
+    @Test
+    void generatedDatesSurviveTheRoundTrip() {
+        for (ZoneId zone : ZONES) {
+            TimeZone.setDefault(TimeZone.getTimeZone(zone));
+            for (int i = 0; i < 2_000; i++) {
+                LocalDate date = randomDateTime().toLocalDate();
+                assertThat(ProtoTimestamps.toLocalDate(ProtoTimestamps.toTimestamp(date)))
+                        .as("%s in %s", date, zone)
+                        .isEqualTo(date);
+            }
+        }
+    }
+
+    @Test
+    void datesTravelAsTheStartOfDayInTheSystemZone() {
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kolkata"));
+
+        Timestamp timestamp = ProtoTimestamps.toTimestamp(LocalDate.of(2026, 3, 14));
+
+        assertThat(timestamp.getSeconds())
+                .isEqualTo(LocalDate.of(2026, 3, 14).atStartOfDay(ZoneId.of("Asia/Kolkata")).toEpochSecond());
+        assertThat(timestamp.getNanos()).isZero();
+    }
+
+    private LocalDateTime randomDateTime() {
+        return LocalDateTime.of(1900 + random.nextInt(200), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000));
+    }
+}
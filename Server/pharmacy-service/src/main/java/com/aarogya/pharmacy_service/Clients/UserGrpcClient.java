@@ -3,18 +3,15 @@ package com.aarogya.pharmacy_service.Clients;
 import com.aarogya.auth.proto.AuthServiceGrpc;
 import com.aarogya.auth.proto.IdRequest;
 import com.aarogya.auth.proto.PatientResponse;
+import com.aarogya.auth_client.AuthServiceCaller;
+import com.aarogya.pharmacy_service.config.GrpcClientConfig;
 import com.aarogya.pharmacy_service.dto.patient.PatientResponseDTO;
 import com.aarogya.pharmacy_service.exceptions.*;
 import com.google.protobuf.Timestamp;
-import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
-import io.grpc.health.v1.HealthCheckRequest;
-import io.grpc.health.v1.HealthCheckResponse;
-import io.grpc.health.v1.HealthGrpc;
-import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelFactory;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
@@ -22,50 +19,27 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.concurrent.TimeUnit;
 
 
 @Service
 @Slf4j
 public class UserGrpcClient {
 
-    private final AuthServiceGrpc.AuthServiceBlockingStub authServiceBlockingStub;
-    private final ManagedChannel channel;
+    private final AuthServiceGrpc.AuthServiceFutureStub authServiceFutureStub;
+    private final AuthServiceCaller authServiceCaller;
 
-    public UserGrpcClient() {
-        try {
-            this.channel = ManagedChannelBuilder
-                    .forAddress("localhost", 6001)
-                    .usePlaintext()
-                    .build();
-
-            this.authServiceBlockingStub = AuthServiceGrpc.newBlockingStub(channel);
-        } catch (Exception e) {
-            log.error("Failed to initialize gRPC Auth client", e);
-            throw new ServiceUnavailable("Auth service is currently unavailable");
-        }
+    public UserGrpcClient(AuthServiceCaller authServiceCaller, GrpcChannelFactory channelFactory) {
+        this.authServiceCaller = authServiceCaller;
+        this.authServiceFutureStub = AuthServiceGrpc.newFutureStub(
+                channelFactory.createChannel(GrpcClientConfig.AUTH_SERVICE_CHANNEL));
     }
 
-    private void checkServiceHealth() {
-        HealthGrpc.HealthBlockingStub healthStub = HealthGrpc.newBlockingStub(channel);
-        try {
-            HealthCheckResponse response = healthStub.check(
-                    HealthCheckRequest.newBuilder().build());
-
-            if (response.getStatus() != HealthCheckResponse.ServingStatus.SERVING) {
-                log.error("Auth service is not healthy: {}", response.getStatus());
-                throw new ServiceUnavailable("Auth service is not healthy");
-            }
-            log.info("Auth service health status: {}", response.getStatus());
-        } catch (StatusRuntimeException e) {
-            log.error("Auth service health check failed", e);
-            throw new ServiceUnavailable("Auth service is unreachable");
-        }
+    private AuthServiceGrpc.AuthServiceFutureStub stub() {
+        return authServiceCaller.withDeadline(authServiceFutureStub);
     }
 
     @Cacheable(value = "patient", key = "#patientId")
     public PatientResponseDTO getPatient(String patientId) {
-        checkServiceHealth();
         log.info("Getting patient with id: {}", patientId);
 
         try {
@@ -75,7 +49,7 @@ public class UserGrpcClient {
                     .setId(patientId)
                     .build();
 
-            PatientResponse patient = authServiceBlockingStub.getPatientById(request);
+            PatientResponse patient = authServiceCaller.call(() -> stub().getPatientById(request));
 
             if(patient == null || patient.getId().isEmpty()) {
                 log.error("Patient with id: {} not found", patientId);
@@ -136,16 +110,4 @@ public class UserGrpcClient {
                 throw new ServiceUnavailable("Failed to process blog request");
         }
     }
-
-    @PreDestroy
-    public void shutdown() {
-        try {
-            if (channel != null && !channel.isShutdown()) {
-                channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
-            }
-        } catch (InterruptedException e) {
-            log.warn("Failed to shutdown gRPC channel properly", e);
-            Thread.currentThread().interrupt();
-        }
-    }
 }
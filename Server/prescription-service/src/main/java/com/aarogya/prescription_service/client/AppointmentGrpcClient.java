@@ -4,6 +4,7 @@ import appointment.Appointment;
 import appointment.AppointmentServiceGrpc;
 import com.aarogya.prescription_service.dto.AppointmentDTO;
 import com.aarogya.prescription_service.exceptions.*;
+import com.aarogya.prescription_service.mapper.AppointmentProtoMapper;
 import com.google.protobuf.Timestamp;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
@@ -14,7 +15,6 @@ import io.grpc.health.v1.HealthCheckResponse;
 import io.grpc.health.v1.HealthGrpc;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -33,9 +33,9 @@ public class AppointmentGrpcClient {
 
     private final AppointmentServiceGrpc.AppointmentServiceBlockingStub appointmentServiceBlockingStub;
     private final ManagedChannel channel;
-    private final ModelMapper modelMapper;
+    private final AppointmentProtoMapper appointmentProtoMapper;
 
-    public AppointmentGrpcClient(ModelMapper modelMapper) {
+    public AppointmentGrpcClient(AppointmentProtoMapper appointmentProtoMapper) {
         try {
             this.channel = ManagedChannelBuilder
                     .forAddress("localhost", 3001)
@@ -43,7 +43,7 @@ public class AppointmentGrpcClient {
                     .build();
 
             this.appointmentServiceBlockingStub = AppointmentServiceGrpc.newBlockingStub(channel);
-            this.modelMapper = modelMapper;
+            this.appointmentProtoMapper = appointmentProtoMapper;
         } catch (Exception e) {
             log.error("Failed to initialize gRPC Appointment client", e);
             throw new ServiceUnavailable("Appointment service is currently unavailable");
@@ -133,7 +133,7 @@ public class AppointmentGrpcClient {
     }
 
     private AppointmentDTO mapToAppointmentDTO(Appointment.AppointmentResponseDto response) {
-        return modelMapper.map(response, AppointmentDTO.class);
+        return appointmentProtoMapper.fromProto(response);
     }
 
     private void handleGrpcException(StatusRuntimeException e, String context) {
@@ -1,5 +1,6 @@
 package com.aarogya.prescription_service.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -20,6 +21,20 @@ public class CacheConfig {
                 .maximumSize(1000)
                 .expireAfterWrite(30, TimeUnit.SECONDS)
                 .recordStats());
+        cacheManager.registerCustomCache("doctor", profileCache());
+        cacheManager.registerCustomCache("patient", profileCache());
         return cacheManager;
     }
+
+    /**
+     * Profiles are invalidated by user-profile-changed events from auth-service, so they can be kept
+     * much longer than the other entries; the TTL is only a safety net for missed events.
+     */
+    private Cache<Object, Object> profileCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterWrite(6, TimeUnit.HOURS)
+                .recordStats()
+                .build();
+    }
 }
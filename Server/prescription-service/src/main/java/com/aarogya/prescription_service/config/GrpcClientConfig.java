@@ -0,0 +1,16 @@
+package com.aarogya.prescription_service.config;
+
+import com.aarogya.auth_client.AuthServiceClientConfig;
+import com.aarogya.prescription_service.exceptions.ServiceUnavailable;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The auth-service channel and caller from auth-grpc-client, failing with this service's 503.
+ */
+@Configuration
+public class GrpcClientConfig extends AuthServiceClientConfig {
+
+    public GrpcClientConfig() {
+        super(ServiceUnavailable::new);
+    }
+}
@@ -0,0 +1,37 @@
+package com.aarogya.prescription_service.consumer;
+
+import com.aarogya.auth_service.events.UserProfileChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AuthServiceConsumer {
+
+    private static final String topicName = "user-profile-changed";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Every instance needs to see every profile change, so each one joins with its own consumer group.
+     */
+    @KafkaListener(
+            topics = topicName,
+            groupId = "${spring.application.name}-${random.uuid}",
+            autoStartup = "${profile-events.enabled:true}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void listenUserProfileChanged(UserProfileChangedEvent event) {
+        String cacheName = "DOCTOR".equals(event.getRole()) ? "doctor" : "patient";
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(event.getUserId());
+            log.info("Evicted cached {} profile {}", cacheName, event.getUserId());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.aarogya.prescription_service.mapper;
+
+import appointment.Appointment;
+import com.aarogya.prescription_service.dto.AppointmentDTO;
+import com.aarogya.prescription_service.dto.DoctorResponseDTO;
+import com.aarogya.prescription_service.dto.PatientResponseDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.aarogya.grpc_common.ProtoTimestamps.toLocalDate;
+import static com.aarogya.grpc_common.ProtoTimestamps.toLocalDateTime;
+
+/**
+ * Reads the protobuf messages built by appointment-service's AppointmentProtoMapper. Unset messages and
+ * timestamps map to null rather than to proto defaults such as the epoch.
+ */
+@Component
+public class AppointmentProtoMapper {
+
+    public AppointmentDTO fromProto(Appointment.AppointmentResponseDto proto) {
+        return AppointmentDTO.builder()
+                .id(emptyToNull(proto.getId()))
+                .appointmentDate(proto.hasAppointmentDate() ? toLocalDate(proto.getAppointmentDate()) : null)
+                .reason(emptyToNull(proto.getReason()))
+                .symptoms(List.copyOf(proto.getSymptomsList()))
+                .notes(emptyToNull(proto.getNotes()))
+                .doctorNotes(emptyToNull(proto.getDoctorNotes()))
+                .priority(proto.getPriority())
+                .doctor(proto.hasDoctor() ? fromProto(proto.getDoctor()) : null)
+                .patientDetails(proto.hasPatientDetails() ? fromProto(proto.getPatientDetails()) : null)
+                .build();
+    }
+
+    public DoctorResponseDTO fromProto(Appointment.DoctorResponseDTO proto) {
+        return DoctorResponseDTO.builder()
+                .id(emptyToNull(proto.getId()))
+                .email(emptyToNull(proto.getEmail()))
+                .firstName(emptyToNull(proto.getFirstName()))
+                .lastName(emptyToNull(proto.getLastName()))
+                .specialization(emptyToNull(proto.getSpecialization()))
+                .licenseNumber(emptyToNull(proto.getLicenseNumber()))
+                .experienceYears(proto.getExperienceYears())
+                .phone(emptyToNull(proto.getPhone()))
+                .address(emptyToNull(proto.getAddress()))
+                .imageUrl(emptyToNull(proto.getImageUrl()))
+                .createdAt(proto.hasCreatedAt() ? toLocalDateTime(proto.getCreatedAt()) : null)
+                .build();
+    }
+
+    public PatientResponseDTO fromProto(Appointment.PatientResponseDTO proto) {
+        return PatientResponseDTO.builder()
+                .id(emptyToNull(proto.getId()))
+                .email(emptyToNull(proto.getEmail()))
+                .firstName(emptyToNull(proto.getFirstName()))
+                .lastName(emptyToNull(proto.getLastName()))
+                .dateOfBirth(proto.hasDateOfBirth() ? toLocalDate(proto.getDateOfBirth()) : null)
+                .gender(emptyToNull(proto.getGender()))
+                .bloodGroup(emptyToNull(proto.getBloodGroup()))
+                .phone(emptyToNull(proto.getPhone()))
+                .address(emptyToNull(proto.getAddress()))
+                .imageUrl(emptyToNull(proto.getImageUrl()))
+                .emergencyContact(emptyToNull(proto.getEmergencyContact()))
+                .emergencyPhone(emptyToNull(proto.getEmergencyPhone()))
+                .createdAt(proto.hasCreatedAt() ? toLocalDateTime(proto.getCreatedAt()) : null)
+                .build();
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,260 @@
+package com.aarogya.prescription_service.mapper;
+
+import appointment.Appointment;
+import com.aarogya.grpc_common.ProtoTimestamps;
+import com.aarogya.prescription_service.dto.AppointmentDTO;
+import com.aarogya.prescription_service.dto.DoctorResponseDTO;
+import com.aarogya.prescription_service.dto.PatientResponseDTO;
+import com.google.protobuf.TextFormat;
+import com.google.protobuf.Timestamp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Completes the round trip started by appointment-service's AppointmentProtoMapperTest: the message its
+ * mapper produced for a known DTO must map back to the same values here.
+ */
+class AppointmentProtoMapperTest {
+
+    // A copy of the message appointment-service's own test pins its mapper to
+    private static final String FIXTURE = "/proto/appointment_response.textproto";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Kolkata");
+
+    private final AppointmentProtoMapper mapper = new AppointmentProtoMapper();
+    private TimeZone defaultTimeZone;
+
+    @BeforeEach
+    void pinTimeZone() {
+        defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone(ZONE));
+    }
+
+    @AfterEach
+    void restoreTimeZone() {
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    @Test
+    void mapsAppointmentServiceMessagesBackToTheOriginalValues() throws Exception {
+        AppointmentDTO appointment = mapper.fromProto(readFixture());
+
+        assertThat(appointment).isEqualTo(AppointmentDTO.builder()
+                .id("6650a1f2c4e8b91d2f3a7c10")
+                .appointmentDate(LocalDate.of(2026, 3, 14))
+                .reason("Persistent cough")
+                .symptoms(List.of("cough", "mild fever"))
+                .notes("Prefers a morning slot")
+                .doctorNotes("Order a chest X-ray")
+                .priority(2)
+                .doctor(DoctorResponseDTO.builder()
+                        .id("664f0c2ab1d34e5f6a7b8c91")
+                        .email("anita.rao@aarogya.in")
+                        .firstName("Anita")
+                        .lastName("Rao")
+                        .specialization("Pulmonology")
+                        .licenseNumber("KMC-48213")
+                        .experienceYears(12)
+                        .phone("+91 98450 12345")
+                        .address("12 MG Road, Bengaluru")
+                        .imageUrl("https://cdn.aarogya.in/doctors/anita-rao.png")
+                        .createdAt(LocalDateTime.of(2025, 11, 5, 8, 0))
+                        .build())
+                .patientDetails(PatientResponseDTO.builder()
+                        .id("664f0d7eb1d34e5f6a7b8ca2")
+                        .email("ravi.kumar@example.com")
+                        .firstName("Ravi")
+                        .lastName("Kumar")
+                        .dateOfBirth(LocalDate.of(1990, 7, 21))
+                        .gender("MALE")
+                        .bloodGroup("B+")
+                        .phone("+91 99000 54321")
+                        .address("4 Residency Road, Bengaluru")
+                        .imageUrl("https://cdn.aarogya.in/patients/ravi-kumar.png")
+                        .emergencyContact("Sita Kumar")
+                        .emergencyPhone("+91 99000 11111")
+                        .createdAt(LocalDateTime.of(2026, 1, 10, 20, 30, 15))
+                        .build())
+                .build());
+    }
+
+    @Test
+    void generatedAppointmentsMapBackUnchanged() throws Exception {
+        Random random = new Random(20260314L);
+        for (int i = 0; i < 500; i++) {
+            AppointmentDTO appointment = randomAppointment(random);
+
+            byte[] wire = toProto(appointment).toByteArray();
+
+            assertThat(mapper.fromProto(Appointment.AppointmentResponseDto.parseFrom(wire))).isEqualTo(appointment);
+        }
+    }
+
+    @Test
+    void unsetMessagesAndTimestampsMapToNull() {
+        AppointmentDTO appointment = mapper.fromProto(Appointment.AppointmentResponseDto.newBuilder()
+                .setId("6650a1f2c4e8b91d2f3a7c10")
+                .build());
+
+        assertThat(appointment.getId()).isEqualTo("6650a1f2c4e8b91d2f3a7c10");
+        assertThat(appointment.getAppointmentDate()).isNull();
+        assertThat(appointment.getReason()).isNull();
+        assertThat(appointment.getNotes()).isNull();
+        assertThat(appointment.getDoctor()).isNull();
+        assertThat(appointment.getPatientDetails()).isNull();
+        assertThat(appointment.getSymptoms()).isEmpty();
+        // int32 has no unset state, so a missing priority reads as 0
+        assertThat(appointment.getPriority()).isZero();
+    }
+
+    @Test
+    void unsetNestedFieldsMapToNull() {
+        AppointmentDTO appointment = mapper.fromProto(Appointment.AppointmentResponseDto.newBuilder()
+                .setDoctor(Appointment.DoctorResponseDTO.newBuilder().setId("d-1"))
+                .setPatientDetails(Appointment.PatientResponseDTO.newBuilder().setId("p-1"))
+                .build());
+
+        assertThat(appointment.getDoctor())
+                .isEqualTo(DoctorResponseDTO.builder().id("d-1").experienceYears(0).build());
+        assertThat(appointment.getPatientDetails()).isEqualTo(PatientResponseDTO.builder().id("p-1").build());
+    }
+
+    @Test
+    void readsDatesInTheSystemZone() {
+        Timestamp startOfDay = Timestamp.newBuilder()
+                .setSeconds(LocalDate.of(2026, 3, 14).atStartOfDay(ZONE).toEpochSecond())
+                .build();
+        Appointment.AppointmentResponseDto proto = Appointment.AppointmentResponseDto.newBuilder()
+                .setAppointmentDate(startOfDay)
+                .build();
+
+        assertThat(mapper.fromProto(proto).getAppointmentDate()).isEqualTo(LocalDate.of(2026, 3, 14));
+
+        // A reader in a zone behind the writer's lands on the previous day, hence one zone for both services
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        assertThat(mapper.fromProto(proto).getAppointmentDate()).isEqualTo(LocalDate.of(2026, 3, 13));
+    }
+
+    private static AppointmentDTO randomAppointment(Random random) {
+        return AppointmentDTO.builder()
+                .id(randomString(random))
+                .appointmentDate(randomDateTime(random).toLocalDate())
+                .reason(randomString(random))
+                .symptoms(IntStream.range(0, random.nextInt(4)).mapToObj(n -> randomString(random)).toList())
+                .notes(randomString(random))
+                .doctorNotes(randomString(random))
+                .priority(random.nextInt())
+                .doctor(DoctorResponseDTO.builder()
+                        .id(randomString(random))
+                        .email(randomString(random))
+                        .firstName(randomString(random))
+                        .lastName(randomString(random))
+                        .specialization(randomString(random))
+                        .licenseNumber(randomString(random))
+                        .experienceYears(random.nextInt())
+                        .phone(randomString(random))
+                        .address(randomString(random))
+                        .imageUrl(randomString(random))
+                        .createdAt(randomDateTime(random))
+                        .build())
+                .patientDetails(PatientResponseDTO.builder()
+                        .id(randomString(random))
+                        .email(randomString(random))
+                        .firstName(randomString(random))
+                        .lastName(randomString(random))
+                        .dateOfBirth(randomDateTime(random).toLocalDate())
+                        .gender(randomString(random))
+                        .bloodGroup(randomString(random))
+                        .phone(randomString(random))
+                        .address(randomString(random))
+                        .imageUrl(randomString(random))
+                        .emergencyContact(randomString(random))
+                        .emergencyPhone(randomString(random))
+                        .createdAt(randomDateTime(random))
+                        .build())
+                .build();
+    }
+
+    // Never empty: an empty proto string is indistinguishable from an unset one and reads back as null
+    private static String randomString(Random random) {
+        StringBuilder value = new StringBuilder();
+        while (value.isEmpty()) {
+            for (int n = random.nextInt(12); n > 0; n--) {
+                int codePoint = random.nextInt(Character.MAX_CODE_POINT + 1);
+                if (Character.isDefined(codePoint) && Character.getType(codePoint) != Character.SURROGATE) {
+                    value.appendCodePoint(codePoint);
+                }
+            }
+        }
+        return value.toString();
+    }
+
+    private static LocalDateTime randomDateTime(Random random) {
+        return LocalDateTime.of(1900 + random.nextInt(200), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000));
+    }
+
+    // Builds the message the way appointment-service's mapper does, with the same shared conversions
+    private static Appointment.AppointmentResponseDto toProto(AppointmentDTO appointment) {
+        DoctorResponseDTO doctor = appointment.getDoctor();
+        PatientResponseDTO patient = appointment.getPatientDetails();
+        return Appointment.AppointmentResponseDto.newBuilder()
+                .setId(appointment.getId())
+                .setAppointmentDate(ProtoTimestamps.toTimestamp(appointment.getAppointmentDate()))
+                .setReason(appointment.getReason())
+                .addAllSymptoms(appointment.getSymptoms())
+                .setNotes(appointment.getNotes())
+                .setDoctorNotes(appointment.getDoctorNotes())
+                .setPriority(appointment.getPriority())
+                .setDoctor(Appointment.DoctorResponseDTO.newBuilder()
+                        .setId(doctor.getId())
+                        .setEmail(doctor.getEmail())
+                        .setFirstName(doctor.getFirstName())
+                        .setLastName(doctor.getLastName())
+                        .setSpecialization(doctor.getSpecialization())
+                        .setLicenseNumber(doctor.getLicenseNumber())
+                        .setExperienceYears(doctor.getExperienceYears())
+                        .setPhone(doctor.getPhone())
+                        .setAddress(doctor.getAddress())
+                        .setImageUrl(doctor.getImageUrl())
+                        .setCreatedAt(ProtoTimestamps.toTimestamp(doctor.getCreatedAt())))
+                .setPatientDetails(Appointment.PatientResponseDTO.newBuilder()
+                        .setId(patient.getId())
+                        .setEmail(patient.getEmail())
+                        .setFirstName(patient.getFirstName())
+                        .setLastName(patient.getLastName())
+                        .setDateOfBirth(ProtoTimestamps.toTimestamp(patient.getDateOfBirth()))
+                        .setGender(patient.getGender())
+                        .setBloodGroup(patient.getBloodGroup())
+                        .setPhone(patient.getPhone())
+                        .setAddress(patient.getAddress())
+                        .setImageUrl(patient.getImageUrl())
+                        .setEmergencyContact(patient.getEmergencyContact())
+                        .setEmergencyPhone(patient.getEmergencyPhone())
+                        .setCreatedAt(ProtoTimestamps.toTimestamp(patient.getCreatedAt())))
+                .build();
+    }
+
+    private static Appointment.AppointmentResponseDto readFixture() throws Exception {
+        Appointment.AppointmentResponseDto.Builder builder = Appointment.AppointmentResponseDto.newBuilder();
+        try (InputStream in = AppointmentProtoMapperTest.class.getResourceAsStream(FIXTURE);
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            TextFormat.merge(reader, builder);
+        }
+        return builder.build();
+    }
+}